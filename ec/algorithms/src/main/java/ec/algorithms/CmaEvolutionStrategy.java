@@ -0,0 +1,378 @@
+package ec.algorithms;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import ec.core.Algorithm;
+import ec.core.DebugLog;
+import ec.core.Problem;
+import ec.core.Rng;
+import ec.core.Solution;
+
+// CMA-ES (Hansen, The CMA Evolution Strategy: A Tutorial, 2016) with rank-one and rank-mu updates.
+// C is decomposed lazily, every lambda / ((c1 + cmu) D 2) evaluations, and samples are clamped to
+// the bounds. A stagnated run restarts with the same lambda; under a RestartStrategy it ends the
+// stage instead (IPOP- and BIPOP-CMA-ES).
+public class CmaEvolutionStrategy extends Algorithm {
+
+    // Initial sigma as a fraction of the mean width of the bounds
+    private final double initialStepSize;
+
+    // lambda, 0 takes the default 4 + 3 ln D
+    private final int populationSize;
+
+    // Evaluates the samples of a generation in parallel, null evaluates them in the calling thread
+    private final ForkJoinPool pool;
+
+    private static final double TOL_FUN = 1e-12;
+    private static final double TOL_X = 1e-12;       // relative to the initial sigma
+    private static final double MAX_CONDITION = 1e14;
+
+    // C is decomposed after lambda / ((c1 + cmu) D EIGEN_GAP_DIVISOR) evaluations; Hansen's
+    // tutorial uses 10, which with the default lambda decomposes every generation at D = 30 and
+    // costs more than the sampling, 2 gave the same results on the benchmark set
+    private static final double EIGEN_GAP_DIVISOR = 2;
+
+    public CmaEvolutionStrategy() {
+        this(0, 0.3, null);
+    }
+
+    public CmaEvolutionStrategy(int populationSize) {
+        this(populationSize, 0.3, null);
+    }
+
+    // Samples are drawn sequentially from the run's rng, so a seed gives the same run with or
+    // without a pool
+    public CmaEvolutionStrategy(int populationSize, double initialStepSize, ForkJoinPool pool) {
+        if (populationSize != 0 && populationSize < 2) {
+            throw new IllegalArgumentException("Population size must be at least 2: " + populationSize);
+        }
+        this.populationSize = populationSize;
+        this.initialStepSize = initialStepSize;
+        this.pool = pool;
+    }
+
+    // Default lambda for a problem of the given dimension
+    public static int defaultPopulationSize(int dimensions) {
+        return 4 + (int) (3 * Math.log(dimensions));
+    }
+
+    public int getPopulationSize(int dimensions) {
+        return populationSize > 0 ? populationSize : defaultPopulationSize(dimensions);
+    }
+
+    @Override
+    public Solution execute(Problem p, boolean isDebug, Rng rng) {
+        DebugLog log = debugLog(isDebug);
+        int lambda = getPopulationSize(p.getNumberOfDimension());
+
+        Incumbent best = new Incumbent(p.getNumberOfDimension());
+        while (!p.isTerminated()) {
+            run(p, rng, lambda, initialStepSize, log, best);
+
+            // under a RestartStrategy a stopped run ends the stage, which picks the next lambda
+            if (!p.isTerminated() && p.signalStagnation()) {
+                break;
+            }
+            if (!p.isTerminated() && log != null) {
+                log.publish(DebugLog.Event.RESTART, p.getCurrentFes(), best.fitness, best.x);
+            }
+        }
+
+        // Return the best solution
+        return new Solution(best.x, best.fitness);
+    }
+
+    // Best solution over the runs of one execute
+    static final class Incumbent {
+        final double[] x;
+        double fitness = Double.POSITIVE_INFINITY;
+
+        Incumbent(int dimensions) {
+            this.x = new double[dimensions];
+        }
+    }
+
+    // One CMA-ES run from a random mean with the given lambda and initial step size, until the
+    // budget is spent or a stop criterion is met; best is updated with every evaluation
+    void run(Problem p, Rng rng, int lambda, double relativeStepSize, DebugLog log, Incumbent best) {
+        int n = p.getNumberOfDimension();
+        double[] lowerLimit = p.getLowerBounds();
+        double[] upperLimit = p.getUpperBounds();
+
+        // selection and recombination: log weights over the best mu samples
+        int mu = lambda / 2;
+        double[] weights = new double[mu];
+        double weightSum = 0.0;
+        for (int i = 0; i < mu; i++) {
+            weights[i] = Math.log(mu + 0.5) - Math.log(i + 1);
+            weightSum += weights[i];
+        }
+        double weightSquares = 0.0;
+        for (int i = 0; i < mu; i++) {
+            weights[i] /= weightSum;
+            weightSquares += weights[i] * weights[i];
+        }
+        double mueff = 1.0 / weightSquares;
+
+        // adaptation: cumulation, step size damping, learning rates of the rank-one and rank-mu updates
+        double cc = (4 + mueff / n) / (n + 4 + 2 * mueff / n);
+        double cs = (mueff + 2) / (n + mueff + 5);
+        double c1 = 2 / ((n + 1.3) * (n + 1.3) + mueff);
+        double cmu = Math.min(1 - c1, 2 * (mueff - 2 + 1 / mueff) / ((n + 2) * (n + 2) + mueff));
+        double damps = 1 + 2 * Math.max(0, Math.sqrt((mueff - 1) / (n + 1)) - 1) + cs;
+        double chiN = Math.sqrt(n) * (1 - 1.0 / (4 * n) + 1.0 / (21.0 * n * n)); // E||N(0, I)||
+        double eigenInterval = lambda / ((c1 + cmu) * n * EIGEN_GAP_DIVISOR);
+
+        // state: mean, step size, evolution paths, C (lower triangle) and its decomposition, b holds
+        // the eigenvectors (the columns of B) as rows and diagD the square roots of the eigenvalues
+        double[] mean = new double[n];
+        double width = 0.0;
+        for (int j = 0; j < n; j++) {
+            mean[j] = lowerLimit[j] + (upperLimit[j] - lowerLimit[j]) * rng.nextDouble();
+            width += (upperLimit[j] - lowerLimit[j]) / n;
+        }
+        double sigma0 = relativeStepSize * width;
+        double sigma = sigma0;
+        double[] pc = new double[n];
+        double[] ps = new double[n];
+        double[][] c = new double[n][n];
+        double[][] b = new double[n][n];
+        double[] diagD = new double[n];
+        for (int i = 0; i < n; i++) {
+            c[i][i] = 1.0;
+            b[i][i] = 1.0;
+            diagD[i] = 1.0;
+        }
+        double[] eigenScratch = new double[n];
+        int eigenFes = p.getCurrentFes();
+
+        // samples of a generation and their D z as row-major matrices, steps y = (x - old mean) / sigma
+        // of the best mu
+        double[] samples = new double[lambda * n];
+        double[] scaled = new double[lambda * n];
+        double[] fitness = new double[lambda];
+        double[] steps = new double[mu * n];
+        int[] order = new int[lambda];
+        double[] oldMean = new double[n];
+        double[] y = new double[n];
+
+        // best fitness of the recent generations for TolFun
+        double[] history = new double[10 + (int) Math.ceil(30.0 * n / lambda)];
+        int generations = 0;
+
+        while (!p.isTerminated()) {
+            // x_k = m + sigma B D z_k, z_k ~ N(0, I), as one matrix product over the generation so
+            // that every row of b (a column of B) is used for all samples while it is in cache
+            for (int k = 0; k < lambda * n; k += n) {
+                for (int a = 0; a < n; a++) {
+                    scaled[k + a] = sigma * diagD[a] * rng.nextGaussian();
+                }
+                System.arraycopy(mean, 0, samples, k, n);
+            }
+            for (int a = 0; a < n; a++) {
+                for (int k = 0; k < lambda * n; k += n) {
+                    axpy(scaled[k + a], b[a], 0, samples, k, n);
+                }
+            }
+            for (int k = 0; k < lambda; k++) {
+                int offset = k * n;
+                for (int i = 0; i < n; i++) {
+                    double xi = samples[offset + i];
+                    if (xi < lowerLimit[i]) {
+                        xi = lowerLimit[i];
+                    } else if (xi > upperLimit[i]) {
+                        xi = upperLimit[i];
+                    }
+                    samples[offset + i] = xi;
+                }
+            }
+
+            // evaluate all samples at once, rows past the budget come back as +infinity
+            int generationStart = p.getCurrentFes();
+            p.evaluateBatch(samples, fitness, pool);
+            for (int k = 0; k < lambda; k++) {
+                int offset = k * n;
+                // rows refused by the budget come back as +infinity and were not evaluated
+                if (log != null && fitness[k] != Double.POSITIVE_INFINITY) {
+                    log.publish(DebugLog.Event.EVALUATION, generationStart + k + 1, fitness[k], samples, offset, n);
+                }
+                if (fitness[k] < best.fitness) {
+                    best.fitness = fitness[k];
+                    System.arraycopy(samples, offset, best.x, 0, n);
+                }
+                if (trace != null) {
+                    trace.record(generationStart + k + 1, best.fitness);
+                }
+            }
+            if (p.isTerminated()) {
+                break;
+            }
+            generations++;
+
+            // new mean from the best mu samples
+            FitnessOrder.sort(order, fitness, lambda);
+            System.arraycopy(mean, 0, oldMean, 0, n);
+            Arrays.fill(mean, 0.0);
+            for (int k = 0; k < mu; k++) {
+                int offset = order[k] * n;
+                for (int i = 0; i < n; i++) {
+                    mean[i] += weights[k] * samples[offset + i];
+                }
+            }
+            for (int k = 0; k < mu; k++) {
+                int from = order[k] * n;
+                int to = k * n;
+                for (int i = 0; i < n; i++) {
+                    steps[to + i] = (samples[from + i] - oldMean[i]) / sigma;
+                }
+            }
+
+            // step size path with C^-1/2 (m - old m) / sigma = B D^-1 B^T y_w
+            Arrays.fill(y, 0.0);
+            for (int a = 0; a < n; a++) {
+                double[] ba = b[a];
+                double sum = 0.0;
+                for (int i = 0; i < n; i++) {
+                    sum += ba[i] * (mean[i] - oldMean[i]);
+                }
+                double ta = sum / (sigma * diagD[a]);
+                for (int i = 0; i < n; i++) {
+                    y[i] += ba[i] * ta;
+                }
+            }
+            double psFactor = Math.sqrt(cs * (2 - cs) * mueff);
+            double psNorm = 0.0;
+            for (int i = 0; i < n; i++) {
+                ps[i] = (1 - cs) * ps[i] + psFactor * y[i];
+                psNorm += ps[i] * ps[i];
+            }
+            psNorm = Math.sqrt(psNorm);
+
+            // covariance path, stalled while the step size path is long
+            boolean hsig = psNorm / Math.sqrt(1 - Math.pow(1 - cs, 2.0 * generations)) / chiN < 1.4 + 2.0 / (n + 1);
+            double pcFactor = hsig ? Math.sqrt(cc * (2 - cc) * mueff) : 0.0;
+            for (int i = 0; i < n; i++) {
+                pc[i] = (1 - cc) * pc[i] + pcFactor * (mean[i] - oldMean[i]) / sigma;
+            }
+
+            // rank-one and rank-mu update of the lower triangle of C, row by row so that each
+            // of the mu + 1 terms is a pass along the row
+            double decay = 1 - c1 - cmu + (hsig ? 0.0 : c1 * cc * (2 - cc));
+            for (int i = 0; i < n; i++) {
+                double[] ci = c[i];
+                for (int j = 0; j <= i; j++) {
+                    ci[j] *= decay;
+                }
+                axpy(c1 * pc[i], pc, 0, ci, 0, i + 1);
+                for (int k = 0; k < mu * n; k += n) {
+                    axpy(cmu * weights[k / n] * steps[k + i], steps, k, ci, 0, i + 1);
+                }
+            }
+
+            // step size control, the change per generation is capped for stability
+            sigma *= Math.exp(Math.min(1.0, (cs / damps) * (psNorm / chiN - 1)));
+
+            // lazy decomposition C = B D^2 B^T
+            if (p.getCurrentFes() - eigenFes > eigenInterval) {
+                eigenFes = p.getCurrentFes();
+                for (int i = 0; i < n; i++) {
+                    for (int j = 0; j <= i; j++) {
+                        b[i][j] = c[i][j];
+                        b[j][i] = c[i][j];
+                    }
+                }
+                SymmetricEigen.decompose(b, diagD, eigenScratch);
+                for (int i = 0; i < n; i++) {
+                    if (!(diagD[i] > 0)) {
+                        return; // C lost positive definiteness
+                    }
+                    diagD[i] = Math.sqrt(diagD[i]);
+                }
+            }
+
+            // flat fitness: escape by a larger step
+            if (fitness[order[0]] == fitness[order[Math.min(lambda - 1, (int) Math.ceil(0.7 * lambda))]]) {
+                sigma *= Math.exp(0.2 + cs / damps);
+            }
+
+            if (log != null) {
+                log.publish(DebugLog.Event.STEP_SIZE, p.getCurrentFes(), sigma);
+            }
+
+            history[(generations - 1) % history.length] = fitness[order[0]];
+            if (shouldStop(n, lambda, sigma, sigma0, mean, pc, c, b, diagD, fitness, order, history, generations)) {
+                return;
+            }
+        }
+    }
+
+    // y[yOffset ..] += alpha x[xOffset ..] over length elements
+    private static void axpy(double alpha, double[] x, int xOffset, double[] y, int yOffset, int length) {
+        for (int i = 0; i < length; i++) {
+            y[yOffset + i] += alpha * x[xOffset + i];
+        }
+    }
+
+    // Stop criteria of a run (Hansen, 2016, appendix B.3)
+    private static boolean shouldStop(int n, int lambda, double sigma, double sigma0, double[] mean, double[] pc,
+                                      double[][] c, double[][] b, double[] diagD, double[] fitness, int[] order,
+                                      double[] history, int generations) {
+        if (!(sigma > 0) || Double.isInfinite(sigma)) {
+            return true;
+        }
+
+        // TolFun: the recent best values and the current generation are within TOL_FUN
+        if (generations >= history.length) {
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            for (double h : history) {
+                min = Math.min(min, h);
+                max = Math.max(max, h);
+            }
+            min = Math.min(min, fitness[order[0]]);
+            max = Math.max(max, fitness[order[lambda - 1]]);
+            if (max - min < TOL_FUN) {
+                return true;
+            }
+        }
+
+        // TolX: all coordinates of the step and the covariance path are tiny
+        boolean small = true;
+        for (int i = 0; i < n && small; i++) {
+            small = sigma * Math.max(Math.abs(pc[i]), Math.sqrt(c[i][i])) < TOL_X * sigma0;
+        }
+        if (small) {
+            return true;
+        }
+
+        // ConditionCov
+        double minD = Double.POSITIVE_INFINITY;
+        double maxD = 0.0;
+        for (int i = 0; i < n; i++) {
+            minD = Math.min(minD, diagD[i]);
+            maxD = Math.max(maxD, diagD[i]);
+        }
+        if (maxD * maxD > MAX_CONDITION * minD * minD) {
+            return true;
+        }
+
+        // NoEffectAxis: a tenth of a standard deviation along a principal axis does not change the mean
+        int axis = generations % n;
+        boolean unchanged = true;
+        for (int i = 0; i < n && unchanged; i++) {
+            unchanged = mean[i] == mean[i] + 0.1 * sigma * diagD[axis] * b[axis][i];
+        }
+        if (unchanged) {
+            return true;
+        }
+
+        // NoEffectCoord: a fifth of a standard deviation in one coordinate does not change the mean
+        for (int i = 0; i < n; i++) {
+            if (mean[i] == mean[i] + 0.2 * sigma * Math.sqrt(c[i][i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
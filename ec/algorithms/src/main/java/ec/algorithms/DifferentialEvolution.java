@@ -0,0 +1,204 @@
+package ec.algorithms;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import ec.core.Algorithm;
+import ec.core.DebugLog;
+import ec.core.ParallelFor;
+import ec.core.Problem;
+import ec.core.Rng;
+import ec.core.Solution;
+
+public class DifferentialEvolution extends Algorithm {
+
+    private final int populationSize; // NP
+    private final double crossoverRate = 0.5; // CR
+    private final double mutationFactor = 0.6; // F
+
+    // Pool for the parallel mode, null runs the classic sequential loop
+    private final ForkJoinPool pool;
+
+    public DifferentialEvolution() {
+        this(20, null);
+    }
+
+    // Parallel mode: the trials of a generation are created and evaluated concurrently on pool.
+    // Trial i always draws from its own Rng stream (split from the run's rng), so a seed gives
+    // the same run for any pool size, but not the same run as the sequential mode.
+    public DifferentialEvolution(ForkJoinPool pool) {
+        this(20, pool);
+    }
+
+    // populationSize individuals instead of the default 20, e.g. for RestartStrategy
+    public DifferentialEvolution(int populationSize) {
+        this(populationSize, null);
+    }
+
+    public DifferentialEvolution(int populationSize, ForkJoinPool pool) {
+        if (populationSize < 4) {
+            throw new IllegalArgumentException("DE needs at least 4 individuals: " + populationSize);
+        }
+        this.populationSize = populationSize;
+        this.pool = pool;
+    }
+
+    public int getPopulationSize() {
+        return populationSize;
+    }
+
+    @Override
+    public Solution execute(Problem p, boolean isDebug, Rng rng) {
+        int dimensions = p.getNumberOfDimension();
+        DebugLog log = debugLog(isDebug);
+
+        double[] lowerLimit = p.getLowerBounds();
+        double[] upperLimit = p.getUpperBounds();
+
+        // two preallocated row-major matrices (populationSize x dimensions): the current
+        // population and the trial vectors of a generation; accepted trials are copied back
+        // in place, so a run allocates nothing after this point
+        double[] population = new double[populationSize * dimensions];
+        double[] fitness = new double[populationSize];
+        double[] trials = new double[populationSize * dimensions];
+        double[] trialFitness = new double[populationSize];
+
+        // sequential mode uses the run's rng, the parallel mode gives every individual its own Rng stream
+        Rng[] streams = null;
+        if (pool != null) {
+            streams = new Rng[populationSize];
+            for (int i = 0; i < populationSize; i++) {
+                streams[i] = rng.split();
+            }
+        }
+
+        // initialize population with random solutions
+        for (int i = 0; i < populationSize; i++) {
+            int offset = i * dimensions;
+            for (int j = 0; j < dimensions; j++) {
+                population[offset + j] = lowerLimit[j] + (upperLimit[j] - lowerLimit[j]) * rng.nextDouble();
+            }
+        }
+        p.evaluateBatch(population, fitness, pool);
+
+        // find the best initial solution, row i was evaluation i + 1 of the run
+        int bestIndex = 0;
+        for (int i = 0; i < populationSize; i++) {
+            if (fitness[i] < fitness[bestIndex]) {
+                bestIndex = i;
+            }
+            if (trace != null) {
+                trace.record(i + 1, fitness[bestIndex]);
+            }
+        }
+        double[] bestX = Arrays.copyOfRange(population, bestIndex * dimensions, (bestIndex + 1) * dimensions);
+        double bestFitness = fitness[bestIndex];
+
+        // main DE loop
+        while (!p.isTerminated()) {
+            if (pool == null) {
+                for (int i = 0; i < populationSize; i++) {
+                    createTrial(i, population, trials, lowerLimit, upperLimit, rng);
+                }
+            } else {
+                final Rng[] trialStreams = streams;
+                ParallelFor.run(pool, 0, populationSize,
+                        i -> createTrial(i, population, trials, lowerLimit, upperLimit, trialStreams[i]));
+            }
+
+            // evaluate all trial solutions at once, rows past the budget come back as +infinity
+            int generationStart = p.getCurrentFes();
+            p.evaluateBatch(trials, trialFitness, pool);
+
+            for (int i = 0; i < populationSize; i++) {
+                int offset = i * dimensions;
+
+                // rows refused by the budget come back as +infinity and were not evaluated
+                if (log != null && trialFitness[i] != Double.POSITIVE_INFINITY) {
+                    log.publish(DebugLog.Event.EVALUATION, generationStart + i + 1, trialFitness[i], trials, offset, dimensions);
+                }
+
+                // selection
+                if (trialFitness[i] <= fitness[i]) {
+                    System.arraycopy(trials, offset, population, offset, dimensions);
+                    fitness[i] = trialFitness[i];
+                    if (trialFitness[i] < bestFitness) {
+                        bestFitness = trialFitness[i];
+                        System.arraycopy(trials, offset, bestX, 0, dimensions);
+                    }
+                }
+                if (trace != null) {
+                    trace.record(generationStart + i + 1, bestFitness);
+                }
+            }
+
+            // island model: send the best, immigrants replace the worst individuals they beat
+            if (migration != null && migration.endGeneration()) {
+                migration.emigrate(bestX, 0, dimensions, bestFitness);
+                for (Solution immigrant = migration.poll(); immigrant != null; immigrant = migration.poll()) {
+                    int worst = 0;
+                    for (int i = 1; i < populationSize; i++) {
+                        if (fitness[i] > fitness[worst]) {
+                            worst = i;
+                        }
+                    }
+                    if (immigrant.getFitness() < fitness[worst]) {
+                        System.arraycopy(immigrant.getPosition(), 0, population, worst * dimensions, dimensions);
+                        fitness[worst] = immigrant.getFitness();
+                        if (immigrant.getFitness() < bestFitness) {
+                            bestFitness = immigrant.getFitness();
+                            System.arraycopy(immigrant.getPosition(), 0, bestX, 0, dimensions);
+                        }
+                    }
+                }
+            }
+        }
+
+        // Return the best solution
+        return new Solution(bestX, bestFitness);
+    }
+
+    // Builds trial i (DE/rand/1/bin) into row i of trials from the population matrix,
+    // all coordinates are within the problem boundaries
+    private void createTrial(int i, double[] population, double[] trials,
+                             double[] lowerLimit, double[] upperLimit, Rng rng) {
+        int dimensions = lowerLimit.length;
+
+        // select random solutions a, b, c
+        int a, b, c;
+        do {
+            a = rng.nextInt(populationSize);
+        } while (a == i);
+        do {
+            b = rng.nextInt(populationSize);
+        } while (b == a || b == i);
+        do {
+            c = rng.nextInt(populationSize);
+        } while (c == a || c == b || c == i);
+
+        int xa = a * dimensions;
+        int xb = b * dimensions;
+        int xc = c * dimensions;
+        int xi = i * dimensions;
+
+        // create trial vector y (row i of trials) by binomial crossover; the mutant
+        // coordinate v_j is only computed where crossover takes it, which skips about
+        // (1 - CR) of the mutation work at large D and needs no mutant row
+        int R = rng.nextInt(dimensions);
+        for (int j = 0; j < dimensions; j++) {
+            if (rng.nextDouble() < crossoverRate || j == R) {
+                double vj = population[xa + j] + mutationFactor * (population[xb + j] - population[xc + j]);
+
+                // ensure v is within problem boundaries
+                if (vj < lowerLimit[j]) {
+                    vj = lowerLimit[j];
+                } else if (vj > upperLimit[j]) {
+                    vj = upperLimit[j];
+                }
+                trials[xi + j] = vj;
+            } else {
+                trials[xi + j] = population[xi + j];
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package ec.algorithms;
+
+// Ranking of a population by fitness, shared by L-SHADE and CMA-ES: an index quicksort with
+// insertion sort for short ranges, so no Integer boxing or comparator is involved.
+final class FitnessOrder {
+
+    private FitnessOrder() {
+    }
+
+    // order[0 .. n) = indices of fitness[0 .. n) from best to worst
+    static void sort(int[] order, double[] fitness, int n) {
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        quickSort(order, fitness, 0, n - 1);
+    }
+
+    private static void quickSort(int[] order, double[] fitness, int from, int to) {
+        while (to - from > 16) {
+            double pivot = fitness[order[(from + to) >>> 1]];
+            int i = from;
+            int j = to;
+            while (i <= j) {
+                while (fitness[order[i]] < pivot) {
+                    i++;
+                }
+                while (fitness[order[j]] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    int t = order[i];
+                    order[i++] = order[j];
+                    order[j--] = t;
+                }
+            }
+            // recurse into the smaller half, loop on the larger one
+            if (j - from < to - i) {
+                quickSort(order, fitness, from, j);
+                from = i;
+            } else {
+                quickSort(order, fitness, i, to);
+                to = j;
+            }
+        }
+        for (int i = from + 1; i <= to; i++) {
+            for (int j = i; j > from && fitness[order[j - 1]] > fitness[order[j]]; j--) {
+                int t = order[j - 1];
+                order[j - 1] = order[j];
+                order[j] = t;
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package ec.algorithms;
+
+import java.util.*;
+
+import ec.core.Algorithm;
+import ec.core.DebugLog;
+import ec.core.Problem;
+import ec.core.Rng;
+import ec.core.Solution;
+
+public class HillClimbing extends Algorithm {
+
+    private double stepSize; // step size for neighbors
+    private VisitedSet visited; // history of evaluated positions, bounded
+
+    public HillClimbing(double stepSize) {
+        this(stepSize, VisitedSet.DEFAULT_CAPACITY);
+    }
+
+    // visitedCapacity bounds the history, the oldest positions are forgotten first
+    public HillClimbing(double stepSize, int visitedCapacity) {
+        this.stepSize = stepSize;
+        this.visited = new VisitedSet(visitedCapacity, VisitedSet.DEFAULT_RESOLUTION);
+    }
+
+    @Override
+    public Solution execute(Problem problem, boolean isDebug, Rng rng) {
+        int dimensions = problem.getNumberOfDimension();
+        DebugLog log = debugLog(isDebug);
+        double[] lowerLimit = problem.getLowerBounds();
+        double[] upperLimit = problem.getUpperBounds();
+
+        // initialize the best solution with a random solution
+        Solution bestSolution = problem.generateRandomSolution(rng);
+        double[] bestX = Arrays.copyOf(bestSolution.getPosition(), bestSolution.getPosition().length);
+        double bestFitness = bestSolution.getFitness();
+
+        // track the global best solution
+        double[] globalBestX = Arrays.copyOf(bestX, bestX.length);
+        double globalBestFitness = bestFitness;
+        if (trace != null) {
+            trace.record(problem.getCurrentFes(), globalBestFitness);
+        }
+
+        // save the initial position to history
+        visited.clear();
+        long bestHash = visited.hash(bestX);
+        visited.addHash(bestHash);
+
+        while (!problem.isTerminated()) {
+            // evaluate all neighbors; a neighbor differs from bestX in one coordinate, so it is
+            // described by (coordinate, value) and evaluated as a move from bestX
+            int bestNeighborIndex = -1;
+            double bestNeighborValue = 0.0;
+            double bestNeighborFitness = Double.POSITIVE_INFINITY; // minimization, start with a high value
+
+            neighbors:
+            for (int d = 0; d < dimensions; d++) {
+                for (int direction = -1; direction <= 1; direction += 2) {
+                    // ensure neighbors are within bounds
+                    double value = Math.min(Math.max(bestX[d] + direction * stepSize, lowerLimit[d]), upperLimit[d]);
+
+                    // skip already evaluated neighbors
+                    long hash = visited.moveHash(bestHash, dimensions, d, bestX[d], value);
+                    if (visited.containsHash(hash)) {
+                        continue;
+                    }
+
+                    // evaluate the neighbor, O(1) for problems with a delta evaluation
+                    double fitness = problem.evaluateMove(bestX, bestFitness, d, value);
+                    visited.addHash(hash);
+
+                    // update the best neighbor if it improves fitness
+                    if (fitness < bestNeighborFitness) {
+                        bestNeighborFitness = fitness;
+                        bestNeighborIndex = d;
+                        bestNeighborValue = value;
+                    }
+
+                    // update the global best solution if it improves
+                    if (fitness < globalBestFitness) {
+                        globalBestFitness = fitness;
+                        System.arraycopy(bestX, 0, globalBestX, 0, dimensions);
+                        globalBestX[d] = value;
+
+                        if (log != null) {
+                            log.publish(DebugLog.Event.NEW_BEST, problem.getCurrentFes(), globalBestFitness, globalBestX);
+                        }
+                    }
+
+                    if (trace != null) {
+                        trace.record(problem.getCurrentFes(), globalBestFitness);
+                    }
+
+                    // stop early once the problem stops accepting evaluations
+                    if (problem.isTerminated()) {
+                        break neighbors;
+                    }
+                }
+            }
+
+            // if no improvement, generate a new random starting point
+            if (bestNeighborIndex < 0 || bestNeighborFitness >= bestFitness) {
+                do {
+                    bestX = problem.generateRandomSolution(rng).getPosition();
+                    bestHash = visited.hash(bestX);
+                } while (visited.containsHash(bestHash));
+
+                bestFitness = problem.fitnessFunction(bestX);
+                visited.addHash(bestHash);
+
+                // update the global best solution if the new random solution is better
+                if (bestFitness < globalBestFitness) {
+                    globalBestFitness = bestFitness;
+                    System.arraycopy(bestX, 0, globalBestX, 0, bestX.length);
+
+                    if (log != null) {
+                        log.publish(DebugLog.Event.NEW_BEST, problem.getCurrentFes(), globalBestFitness, globalBestX);
+                    }
+                }
+
+                if (trace != null) {
+                    trace.record(problem.getCurrentFes(), globalBestFitness);
+                }
+
+                if (log != null) {
+                    log.publish(DebugLog.Event.RESTART, problem.getCurrentFes(), bestFitness, bestX);
+                }
+
+                continue;
+            }
+
+            // update to the best neighbor, with its exact fitness as the base of the next moves
+            bestHash = visited.moveHash(bestHash, dimensions, bestNeighborIndex, bestX[bestNeighborIndex], bestNeighborValue);
+            bestFitness = problem.applyMove(bestX, bestNeighborIndex, bestNeighborValue);
+
+            if (log != null) {
+                log.publish(DebugLog.Event.IMPROVED, problem.getCurrentFes(), bestFitness, bestX);
+            }
+        }
+
+        // return the global best solution
+        return new Solution(globalBestX, globalBestFitness);
+    }
+}
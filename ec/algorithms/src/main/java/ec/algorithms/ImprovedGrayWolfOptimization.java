@@ -0,0 +1,385 @@
+package ec.algorithms;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import ec.core.Algorithm;
+import ec.core.ParallelFor;
+import ec.core.Problem;
+import ec.core.Rng;
+import ec.core.Solution;
+
+public class ImprovedGrayWolfOptimization extends Algorithm {
+
+    private final int populationSize; // number of wolves, N
+    private final double aMax = 2.0; // maximum value of control parameter a
+    private final double aMin = 0.2; // minimum value of control parameter a
+    private final double k = 0.3; // scaling factor
+
+    // Pool for the synchronous parallel mode, null runs the classic asynchronous loop
+    private final ForkJoinPool pool;
+
+    public ImprovedGrayWolfOptimization() {
+        this(30, null);
+    }
+
+    // Synchronous parallel mode: in every generation all wolves move against the same alpha and
+    // beta, their new positions are computed and evaluated concurrently on pool and then applied
+    // in index order. Wolf i draws from its own Rng stream, so a seed gives the same run for any
+    // pool size (but not the same run as the asynchronous mode).
+    public ImprovedGrayWolfOptimization(ForkJoinPool pool) {
+        this(30, pool);
+    }
+
+    // populationSize wolves instead of the default 30, e.g. for RestartStrategy
+    public ImprovedGrayWolfOptimization(int populationSize) {
+        this(populationSize, null);
+    }
+
+    public ImprovedGrayWolfOptimization(int populationSize, ForkJoinPool pool) {
+        if (populationSize < 3) {
+            throw new IllegalArgumentException("IGWO needs at least 3 wolves: " + populationSize);
+        }
+        this.populationSize = populationSize;
+        this.pool = pool;
+    }
+
+    public int getPopulationSize() {
+        return populationSize;
+    }
+
+    @Override
+    public Solution execute(Problem p, boolean isDebug, Rng rng) {
+
+        int numDimensions = p.getNumberOfDimension();
+        int maxFes = p.getMaxFes(); // parameter t
+
+        // initialize random population with random solutions
+        List<Solution> population = new ArrayList<>();
+        double best = Double.POSITIVE_INFINITY; // best so far, only kept for the trace
+        for (int i = 0; i < populationSize; i++) {
+            Solution solution = p.generateRandomSolution(rng);
+            population.add(solution);
+            if (trace != null) {
+                best = Math.min(best, solution.getFitness());
+                trace.record(p.getCurrentFes(), best);
+            }
+        }
+
+        // calculate min and max values for each dimension
+        double[] XdMin = calculateMin(population, numDimensions);
+        double[] XdMax = calculateMax(population, numDimensions);
+
+        // apply the equation to the population, row i of equalized holds the updated wolf i
+        double[] equalized = new double[populationSize * numDimensions];
+        double[] equalizedFitness = new double[populationSize];
+        for (int i = 0; i < populationSize; i++) {
+            double[] x = population.get(i).getPosition();
+
+            // apply equalization to each dimension
+            for (int d = 0; d < numDimensions; d++) {
+                double Xi = x[d];
+                equalized[i * numDimensions + d] = calculateXdStar(XdMin[d], XdMax[d], Xi, k);
+            }
+        }
+
+        // calculate fitness of all updated wolves at once
+        int equalizationStart = p.getCurrentFes();
+        p.evaluateBatch(equalized, equalizedFitness, pool);
+        if (trace != null) {
+            for (int i = 0; i < populationSize; i++) {
+                best = Math.min(best, equalizedFitness[i]);
+                trace.record(equalizationStart + i + 1, best);
+            }
+        }
+
+        for (int i = 0; i < populationSize; i++) {
+            // update the solution in the population if the new one has better fitness
+            if (equalizedFitness[i] < population.get(i).getFitness()) {
+                population.get(i).updatePosition(equalized, i * numDimensions, equalizedFitness[i]);
+            }
+        }
+
+        // identify alpha, beta, and delta wolves (best, second best, third best)
+        Solution[] leaders = rankLeaders(population);
+        Solution alpha = leaders[0], beta = leaders[1], delta = leaders[2];
+
+        // new position of the current wolf, copied into the wolf when it is better
+        double[] trial = new double[numDimensions];
+
+        // buffers and per-wolf Rng streams of the synchronous mode
+        double[] candidates = null;
+        double[] candidateFitness = null;
+        Rng[] streams = null;
+        if (pool != null) {
+            candidates = new double[populationSize * numDimensions];
+            candidateFitness = new double[populationSize];
+            streams = new Rng[populationSize];
+            for (int i = 0; i < populationSize; i++) {
+                streams[i] = rng.split();
+            }
+        }
+
+        while (!p.isTerminated()) {
+            if (pool != null) {
+                int fesCount = p.getCurrentFes();
+                double inertiaAlpha = calculateInertiaAlpha(fesCount, maxFes);
+                double inertiaBeta = calculateInertiaBeta(fesCount, maxFes);
+                double a = updateControlParameter(aMax, aMin, fesCount, maxFes, k); // update a
+                double[] alphaPosition = alpha.getPosition();
+                double[] betaPosition = beta.getPosition();
+                double[] lowerBounds = p.getLowerBounds();
+                double[] upperBounds = p.getUpperBounds();
+                double[] rows = candidates;
+                Rng[] wolfStreams = streams;
+
+                ParallelFor.run(pool, 0, populationSize, i -> {
+                    Solution wolf = population.get(i);
+                    double C = updateC(wolfStreams[i]); // update c
+
+                    updatePosition(wolf.getPosition(), alphaPosition, betaPosition, wolf.getPBestPosition(),
+                            inertiaAlpha, inertiaBeta, a, C, wolfStreams[i], rows, i * numDimensions);
+
+                    clampToBounds(rows, i * numDimensions, lowerBounds, upperBounds);
+                });
+
+                int generationStart = p.getCurrentFes();
+                p.evaluateBatch(candidates, candidateFitness, pool);
+
+                for (int i = 0; i < populationSize; i++) {
+                    Solution wolf = population.get(i);
+
+                    // check if the new position is better
+                    if (candidateFitness[i] < wolf.getFitness()) {
+                        wolf.updatePosition(candidates, i * numDimensions, candidateFitness[i]);
+                    }
+
+                    if (wolf.getFitness() < alpha.getFitness()) {
+                        delta = beta;
+                        beta = alpha;
+                        alpha = wolf;
+                    } else if (wolf.getFitness() < beta.getFitness()) {
+                        delta = beta;
+                        beta = wolf;
+                    } else if (wolf.getFitness() < delta.getFitness()) {
+                        delta = wolf;
+                    }
+                    if (trace != null) {
+                        trace.record(generationStart + i + 1, alpha.getFitness());
+                    }
+                }
+
+                if (migration != null && migration.endGeneration() && migrate(population, alpha, numDimensions)) {
+                    leaders = rankLeaders(population);
+                    alpha = leaders[0];
+                    beta = leaders[1];
+                    delta = leaders[2];
+                }
+                continue;
+            }
+
+            for (int i = 0; i < populationSize && !p.isTerminated(); i++) {
+                Solution wolf = population.get(i);
+                int fesCount = p.getCurrentFes();
+
+                double inertiaAlpha = calculateInertiaAlpha(fesCount, maxFes);
+                double inertiaBeta = calculateInertiaBeta(fesCount, maxFes);
+                double a = updateControlParameter(aMax, aMin, fesCount, maxFes, k); // update a
+                double C = updateC(rng); // update c
+
+                updatePosition(wolf.getPosition(), alpha.getPosition(), beta.getPosition(),
+                        wolf.getPBestPosition(), inertiaAlpha, inertiaBeta, a, C, rng, trial, 0);
+
+                clampToBounds(trial, 0, p.getLowerBounds(), p.getUpperBounds());
+
+                double newFitness = p.fitnessFunction(trial);
+
+                // check if the new position is better
+                if (newFitness < wolf.getFitness()) {
+                    wolf.updatePosition(trial, 0, newFitness);
+                }
+
+                if (wolf.getFitness() < alpha.getFitness()) {
+                    delta = beta;
+                    beta = alpha;
+                    alpha = wolf;
+                } else if (wolf.getFitness() < beta.getFitness()) {
+                    delta = beta;
+                    beta = wolf;
+                } else if (wolf.getFitness() < delta.getFitness()) {
+                    delta = wolf;
+                }
+                if (trace != null) {
+                    trace.record(p.getCurrentFes(), alpha.getFitness());
+                }
+
+            }
+
+            if (migration != null && migration.endGeneration() && migrate(population, alpha, numDimensions)) {
+                leaders = rankLeaders(population);
+                alpha = leaders[0];
+                beta = leaders[1];
+                delta = leaders[2];
+            }
+        }
+
+        return alpha;
+    }
+
+    // Alpha, beta and delta wolves (best, second best, third best) of the population
+    public static Solution[] rankLeaders(List<Solution> population) {
+        Solution alpha = null, beta = null, delta = null;
+        for (Solution wolf : population) {
+            if (alpha == null || wolf.getFitness() < alpha.getFitness()) {
+                delta = beta;
+                beta = alpha;
+                alpha = wolf;
+            } else if (beta == null || wolf.getFitness() < beta.getFitness()) {
+                delta = beta;
+                beta = wolf;
+            } else if (delta == null || wolf.getFitness() < delta.getFitness()) {
+                delta = wolf;
+            }
+        }
+        return new Solution[] { alpha, beta, delta };
+    }
+
+    // Island model: sends alpha to the target islands, immigrants replace the worst wolves they
+    // beat. Returns true when a wolf was replaced, the leaders have to be ranked again then.
+    private boolean migrate(List<Solution> population, Solution alpha, int numDimensions) {
+        migration.emigrate(alpha.getPosition(), 0, numDimensions, alpha.getFitness());
+        boolean changed = false;
+        for (Solution immigrant = migration.poll(); immigrant != null; immigrant = migration.poll()) {
+            Solution worst = population.get(0);
+            for (Solution wolf : population) {
+                if (wolf.getFitness() > worst.getFitness()) {
+                    worst = wolf;
+                }
+            }
+            if (immigrant.getFitness() < worst.getFitness()) {
+                worst.updatePosition(immigrant.getPosition(), 0, immigrant.getFitness());
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    public static double[] calculateMin(List<Solution> population, int numDimensions) {
+        double[] minValues = new double[numDimensions];
+        Arrays.fill(minValues, Double.MAX_VALUE);
+
+        for (Solution solution : population) {
+            for (int d = 0; d < numDimensions; d++) {
+                double value = solution.getPosition()[d]; // use getPosition() to access the dimension value
+                if (value < minValues[d]) {
+                    minValues[d] = value;
+                }
+            }
+        }
+        return minValues;
+    }
+
+    public static double[] calculateMax(List<Solution> population, int numDimensions) {
+        double[] maxValues = new double[numDimensions];
+        Arrays.fill(maxValues, Double.MIN_VALUE);
+
+        for (Solution solution : population) {
+            for (int d = 0; d < numDimensions; d++) {
+                double value = solution.getPosition()[d]; // use getPosition() to access the dimension value
+                if (value > maxValues[d]) {
+                    maxValues[d] = value;
+                }
+            }
+        }
+        return maxValues;
+    }
+
+    public static double calculateXdStar(double XdMin, double XdMax, double Xi, double k) {
+
+        double term1 = (XdMin + XdMax) / 2;
+        double term2 = (XdMin + XdMax) / (2 * k);
+        double term3 = Xi / k;
+
+        return term1 + term2 - term3;
+    }
+
+    public static double[] updatePosition(double[] currentPosition, double[] preyPositionX1, double[] preyPositionX2,
+            double[] pBest, double inertiaAlpha, double inertiaBeta, double a, double C, Rng random) {
+        double[] newPosition = new double[currentPosition.length];
+        updatePosition(currentPosition, preyPositionX1, preyPositionX2, pBest, inertiaAlpha, inertiaBeta, a, C,
+                random, newPosition, 0);
+        return newPosition;
+    }
+
+    // Same update written into newPosition[offset..offset+D), used by the loops to avoid a new array per FE
+    public static void updatePosition(double[] currentPosition, double[] preyPositionX1, double[] preyPositionX2,
+            double[] pBest, double inertiaAlpha, double inertiaBeta, double a, double C, Rng random,
+            double[] newPosition, int offset) {
+        int dimension = currentPosition.length;
+
+        // parameters
+        double b1 = 0.5;
+        double b2 = 0.5;
+        double r3 = random.nextDouble();
+        double r4 = random.nextDouble();
+
+        // calculate weights
+        double w1 = inertiaAlpha / (inertiaAlpha + inertiaBeta);
+        double w2 = inertiaBeta / (inertiaAlpha + inertiaBeta);
+
+        // update position
+        for (int i = 0; i < dimension; i++) {
+            // calculate distance using C
+            double D1 = Math.abs(C * preyPositionX1[i] - currentPosition[i]);
+            double D2 = Math.abs(C * preyPositionX2[i] - currentPosition[i]);
+
+            // calculate A
+            double A1 = 2 * a * r3 - a;
+            double A2 = 2 * a * r4 - a;
+
+            // update position using modified equation
+            newPosition[offset + i] = (w1 * preyPositionX1[i] - A1 * D1)
+                    + (w2 * preyPositionX2[i] - A2 * D2)
+                    + (b1 * r3 * (pBest[i] - currentPosition[i]))
+                    + (b2 * r4 * (preyPositionX1[i] - currentPosition[i]));
+        }
+    }
+
+    public static double calculateInertiaAlpha(int currentIteration, int maxIterations) {
+        return 1.0 - ((double) currentIteration / maxIterations);
+    }
+
+    public static double calculateInertiaBeta(int currentIteration, int maxIterations) {
+        return (double) currentIteration / maxIterations;
+    }
+
+    public static double updateControlParameter(double aInitial, double aEnd, int t, int tMax, double k) {
+        double exponent = -Math.pow(t, 2) / Math.pow(k * tMax, 2);
+        return (aInitial - aEnd) * Math.exp(exponent) + aEnd;
+    }
+
+    public static double updateC(Rng random) {
+        double r = random.nextDouble(); // generate a random number between 0 and 1
+        return 2 * r; // calculate C as 2 * r
+    }
+
+    public static double[] clampToBounds(double[] position, double[] lowerBound, double[] upperBound) {
+        clampToBounds(position, 0, lowerBound, upperBound);
+        return position;
+    }
+
+    // Clamps the row position[offset..offset+D) in place
+    public static void clampToBounds(double[] position, int offset, double[] lowerBound, double[] upperBound) {
+        for (int i = 0; i < lowerBound.length; i++) {
+            double value = position[offset + i];
+            if (value < lowerBound[i]) {
+                position[offset + i] = lowerBound[i];
+            } else if (value > upperBound[i]) {
+                position[offset + i] = upperBound[i];
+            }
+        }
+    }
+
+}
@@ -0,0 +1,159 @@
+package ec.algorithms;
+
+import java.util.*;
+
+import ec.core.Algorithm;
+import ec.core.DebugLog;
+import ec.core.Problem;
+import ec.core.Rng;
+import ec.core.Solution;
+
+public class ImprovedHillClimbing extends Algorithm {
+
+    private double stepSize;
+    private final double minStepSize = 0.001;
+    private final double maxStepSize = 1.0;
+    private VisitedSet visited;
+    private int noImprovementCounter = 0;
+    private final int maxNoImprovement = 2;
+    private final double defaultStepDown = 0.9;
+    private final double defaultStepUp = 1.1;
+
+    public ImprovedHillClimbing(double initialStepSize) {
+        this(initialStepSize, VisitedSet.DEFAULT_CAPACITY);
+    }
+
+    public ImprovedHillClimbing(double initialStepSize, int visitedCapacity) {
+        this.stepSize = initialStepSize;
+        this.visited = new VisitedSet(visitedCapacity, VisitedSet.DEFAULT_RESOLUTION);
+    }
+
+    @Override
+    public Solution execute(Problem problem, boolean isDebug, Rng rng) {
+        int dimensions = problem.getNumberOfDimension();
+        DebugLog log = debugLog(isDebug);
+        double[] lowerLimit = problem.getLowerBounds();
+        double[] upperLimit = problem.getUpperBounds();
+
+        Solution bestSolution = problem.generateRandomSolution(rng);
+        double[] bestX = Arrays.copyOf(bestSolution.getPosition(), bestSolution.getPosition().length);
+        double bestFitness = bestSolution.getFitness();
+
+        if (log != null) {
+            log.publish(DebugLog.Event.STEP_SIZE, problem.getCurrentFes(), stepSize);
+        }
+
+        double[] globalBestX = Arrays.copyOf(bestX, bestX.length);
+        double globalBestFitness = bestFitness;
+        if (trace != null) {
+            trace.record(problem.getCurrentFes(), globalBestFitness);
+        }
+        visited.clear();
+        long bestHash = visited.hash(bestX);
+        visited.addHash(bestHash);
+
+        while (!problem.isTerminated()) {
+            // neighbors differ from bestX in one coordinate and are evaluated as moves from it
+            int bestNeighborIndex = -1;
+            double bestNeighborValue = 0.0;
+            double bestNeighborFitness = Double.POSITIVE_INFINITY;
+
+            neighbors:
+            for (int d = 0; d < dimensions; d++) {
+                for (int direction = -1; direction <= 1; direction += 2) {
+                    double value = Math.min(Math.max(bestX[d] + direction * stepSize, lowerLimit[d]), upperLimit[d]);
+
+                    long hash = visited.moveHash(bestHash, dimensions, d, bestX[d], value);
+                    if (visited.containsHash(hash)) {
+                        continue;
+                    }
+
+                    double fitness = problem.evaluateMove(bestX, bestFitness, d, value);
+                    visited.addHash(hash);
+
+                    if (fitness < bestNeighborFitness) {
+                        bestNeighborFitness = fitness;
+                        bestNeighborIndex = d;
+                        bestNeighborValue = value;
+                    }
+
+                    if (fitness < globalBestFitness) {
+                        globalBestFitness = fitness;
+                        System.arraycopy(bestX, 0, globalBestX, 0, dimensions);
+                        globalBestX[d] = value;
+                        if (log != null) {
+                            log.publish(DebugLog.Event.NEW_BEST, problem.getCurrentFes(), globalBestFitness, globalBestX);
+                        }
+                    }
+
+                    if (trace != null) {
+                        trace.record(problem.getCurrentFes(), globalBestFitness);
+                    }
+
+                    if (problem.isTerminated()) {
+                        break neighbors;
+                    }
+                }
+            }
+
+            if (bestNeighborIndex < 0 || bestNeighborFitness >= bestFitness) {
+                noImprovementCounter++;
+
+                if (noImprovementCounter >= maxNoImprovement) {
+                    adjustStepSize(false); //decrease step size
+                    noImprovementCounter = 0;
+                }
+
+                do {
+                    bestX = problem.generateRandomSolution(rng).getPosition();
+                    bestHash = visited.hash(bestX);
+                } while (visited.containsHash(bestHash));
+
+                bestFitness = problem.fitnessFunction(bestX);
+                visited.addHash(bestHash);
+
+                if (bestFitness < globalBestFitness) {
+                    globalBestFitness = bestFitness;
+                    System.arraycopy(bestX, 0, globalBestX, 0, bestX.length);
+                    if (log != null) {
+                        log.publish(DebugLog.Event.NEW_BEST, problem.getCurrentFes(), globalBestFitness, globalBestX);
+                    }
+                }
+
+                if (trace != null) {
+                    trace.record(problem.getCurrentFes(), globalBestFitness);
+                }
+
+                if (log != null) {
+                    log.publish(DebugLog.Event.RESTART, problem.getCurrentFes(), bestFitness, bestX);
+                }
+
+                continue;
+            }
+
+            // improvement found: move to the best neighbor
+            bestHash = visited.moveHash(bestHash, dimensions, bestNeighborIndex, bestX[bestNeighborIndex], bestNeighborValue);
+            bestFitness = problem.applyMove(bestX, bestNeighborIndex, bestNeighborValue); // exact base for the next moves
+
+            if (log != null) {
+                log.publish(DebugLog.Event.IMPROVED, problem.getCurrentFes(), bestFitness, bestX);
+            }
+
+            noImprovementCounter = 0; // reset counter if improvement
+            adjustStepSize(true); // increase step size to explore larger areas
+        }
+
+        return new Solution(globalBestX, globalBestFitness);
+    }
+
+    private void adjustStepSize(boolean increase) {
+        if (increase) {
+            stepSize = Math.min(stepSize * defaultStepUp, maxStepSize); // increase step size, cap at max
+        } else {
+            stepSize *= defaultStepDown; // gradually reduce step size
+            if (stepSize < minStepSize) {
+                stepSize = minStepSize; // reset to minimum if too small
+            }
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package ec.algorithms;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Supplier;
+
+import ec.core.Algorithm;
+import ec.core.Migration;
+import ec.core.Problem;
+import ec.core.Rng;
+import ec.core.Solution;
+
+// Island model: K copies of an algorithm with their own populations and Rng streams, on separate
+// threads sharing the problem's budget. Every interval generations an island sends its best to its
+// neighbours (ring or fully connected); DE and IGWO migrate, others run isolated. Islands are not
+// synchronized, so a seed does not replay a run.
+public class IslandModel extends Algorithm {
+
+    public enum Topology {
+        RING,            // island i sends to island i + 1
+        FULLY_CONNECTED  // every island sends to all others
+    }
+
+    private final Supplier<? extends Algorithm> islandFactory;
+    private final int islands;
+    private final int interval;
+    private final Topology topology;
+
+    // Pool running the islands, null creates one with a thread per island for every run
+    private final ForkJoinPool pool;
+
+    public IslandModel(Supplier<? extends Algorithm> islandFactory, int islands, int interval, Topology topology) {
+        this(islandFactory, islands, interval, topology, null);
+    }
+
+    // The pool needs a thread per island: islands that wait for a thread start late and find the
+    // budget already spent by the others.
+    public IslandModel(Supplier<? extends Algorithm> islandFactory, int islands, int interval, Topology topology,
+                       ForkJoinPool pool) {
+        if (islands < 1) {
+            throw new IllegalArgumentException("At least one island is needed: " + islands);
+        }
+        if (interval <= 0) {
+            throw new IllegalArgumentException("Migration interval must be positive: " + interval);
+        }
+        this.islandFactory = islandFactory;
+        this.islands = islands;
+        this.interval = interval;
+        this.topology = topology;
+        this.pool = pool;
+    }
+
+    public int getIslands() {
+        return islands;
+    }
+
+    @Override
+    public Solution execute(Problem p, boolean isDebug, Rng rng) {
+        // channels, connected by the topology
+        Migration[] channels = new Migration[islands];
+        for (int i = 0; i < islands; i++) {
+            channels[i] = new Migration(interval);
+        }
+        for (int i = 0; i < islands; i++) {
+            if (topology == Topology.RING) {
+                channels[i].setTargets(islands > 1 ? new Migration[] { channels[(i + 1) % islands] } : new Migration[0]);
+            } else {
+                List<Migration> targets = new ArrayList<>(islands - 1);
+                for (int j = 0; j < islands; j++) {
+                    if (j != i) {
+                        targets.add(channels[j]);
+                    }
+                }
+                channels[i].setTargets(targets.toArray(new Migration[0]));
+            }
+        }
+
+        ForkJoinPool islandPool = pool != null ? pool : new ForkJoinPool(islands);
+        try {
+            List<ForkJoinTask<Solution>> tasks = new ArrayList<>(islands);
+            for (int i = 0; i < islands; i++) {
+                Algorithm island = islandFactory.get();
+                island.setMigration(channels[i]);
+                Rng stream = rng.split();
+                tasks.add(islandPool.submit(() -> island.execute(p, isDebug, stream)));
+            }
+
+            // best of the islands
+            Solution best = null;
+            for (ForkJoinTask<Solution> task : tasks) {
+                Solution solution = task.join();
+                if (solution != null && (best == null || solution.getFitness() < best.getFitness())) {
+                    best = solution;
+                }
+            }
+            return best;
+        } finally {
+            if (pool == null) {
+                islandPool.shutdown();
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package ec.algorithms;
+
+import ec.core.Algorithm;
+import ec.core.DebugLog;
+import ec.core.Problem;
+import ec.core.Rng;
+import ec.core.Solution;
+
+public class RandomSearch extends Algorithm {
+    @Override
+    public Solution execute(Problem p, boolean isDebug, Rng rng) {
+        DebugLog log = debugLog(isDebug);
+        Solution bestSolution = null;
+        double bestFitness = Double.POSITIVE_INFINITY; // Initialize to a large value
+
+        // Continue generating random solutions until the problem stops accepting evaluations
+        while (!p.isTerminated()) {
+            // Generate a random solution
+            Solution newSolution = p.generateRandomSolution(rng);
+
+            // Check if this solution is better than the best found so far
+            if (newSolution.getFitness() < bestFitness) {
+                bestFitness = newSolution.getFitness();
+                bestSolution = newSolution; // Update the best solution
+                if (log != null) {
+                    log.publish(DebugLog.Event.NEW_BEST, p.getCurrentFes(), newSolution.getFitness(), newSolution.getPosition());
+                }
+            }
+            if (trace != null) {
+                trace.record(p.getCurrentFes(), bestFitness);
+            }
+        }
+
+        // Return the best found solution
+        return bestSolution;
+    }
+}
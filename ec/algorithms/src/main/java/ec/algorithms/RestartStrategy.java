@@ -0,0 +1,120 @@
+package ec.algorithms;
+
+import java.util.function.IntFunction;
+
+import ec.core.Algorithm;
+import ec.core.DebugLog;
+import ec.core.Problem;
+import ec.core.Rng;
+import ec.core.Solution;
+
+// IPOP/BIPOP restarts around any algorithm: when a stage stagnates (detected by the Problem) a new
+// run starts on the remaining budget, with a doubled population (IPOP, Auger and Hansen 2005) or
+// alternating with small random ones (BIPOP, Hansen 2009). Not usable as an island, the
+// stagnation state lives in the shared Problem.
+public class RestartStrategy extends Algorithm {
+
+    public enum Schedule {
+        IPOP,  // every restart doubles the population size
+        BIPOP  // doubled populations alternate with small random ones, with a balanced budget
+    }
+
+    // Algorithm of a stage for the given population size
+    private final IntFunction<? extends Algorithm> factory;
+    private final int initialPopulationSize;
+    private final Schedule schedule;
+    private final int stagnationGenerations;
+    private final double tolerance;
+    private final double increaseFactor = 2;
+    private final int minStageGenerations = 10; // caps the population at 1/10 of the remaining budget
+
+    public RestartStrategy(IntFunction<? extends Algorithm> factory, int initialPopulationSize, Schedule schedule) {
+        this(factory, initialPopulationSize, schedule, 500, 1e-12);
+    }
+
+    // A stage stagnates when stagnationGenerations generations (population size evaluations each)
+    // have not improved its best fitness by more than tolerance, or when all evaluations of two
+    // generations lie within tolerance of each other
+    public RestartStrategy(IntFunction<? extends Algorithm> factory, int initialPopulationSize, Schedule schedule,
+                           int stagnationGenerations, double tolerance) {
+        if (initialPopulationSize < 1 || stagnationGenerations < 1) {
+            throw new IllegalArgumentException("Population size and stagnation generations must be positive: "
+                    + initialPopulationSize + ", " + stagnationGenerations);
+        }
+        this.factory = factory;
+        this.initialPopulationSize = initialPopulationSize;
+        this.schedule = schedule;
+        this.stagnationGenerations = stagnationGenerations;
+        this.tolerance = tolerance;
+    }
+
+    @Override
+    public Solution execute(Problem p, boolean isDebug, Rng rng) {
+        DebugLog log = debugLog(isDebug);
+        Solution best = null;
+
+        // population of the large regime and the evaluations spent by either regime (BIPOP)
+        int largeSize = initialPopulationSize;
+        int largeFes = 0;
+        int smallFes = 0;
+        int stages = 0;
+
+        try {
+            while (!p.isTerminated()) {
+                int size;
+                boolean small = false;
+                if (stages == 0) {
+                    size = initialPopulationSize;
+                } else if (schedule == Schedule.BIPOP && smallFes < largeFes) {
+                    // lambda_s = lambda_0 (lambda_large / (2 lambda_0))^(U^2), U ~ U(0, 1)
+                    double u = rng.nextDouble();
+                    size = (int) (initialPopulationSize * Math.pow(0.5 * largeSize / initialPopulationSize, u * u));
+                    small = true;
+                } else {
+                    largeSize = (int) Math.min(largeSize * increaseFactor, Integer.MAX_VALUE / 2);
+                    size = largeSize;
+                }
+                int remaining = p.getMaxFes() - p.getCurrentFes();
+                size = Math.max(initialPopulationSize, Math.min(size, remaining / minStageGenerations));
+
+                Algorithm stage = factory.apply(size);
+                stage.setTrace(trace);
+                stage.setMigration(migration);
+                if (log != null) {
+                    stage.setDebugLog(log);
+                }
+                if (trace != null && best != null) {
+                    trace.carryOver(best.getFitness());
+                }
+                p.setStagnationLimit((int) Math.min((long) stagnationGenerations * size, Integer.MAX_VALUE),
+                        2 * size, tolerance);
+
+                int stageStart = p.getCurrentFes();
+                Solution solution = stage.execute(p, isDebug, rng);
+                if (solution != null && (best == null || solution.getFitness() < best.getFitness())) {
+                    best = solution;
+                }
+                int used = p.getCurrentFes() - stageStart;
+                if (small) {
+                    smallFes += used;
+                } else {
+                    largeFes += used;
+                }
+                stages++;
+
+                // continue on the remaining budget; an algorithm that evaluates nothing more ends the run
+                if (used == 0 || !p.resume()) {
+                    break;
+                }
+                if (log != null && best != null) {
+                    log.publish(DebugLog.Event.RESTART, p.getCurrentFes(), best.getFitness(), best.getPosition());
+                }
+            }
+        } finally {
+            p.setStagnationLimit(0, 0, 0.0);
+        }
+
+        // Return the best solution
+        return best;
+    }
+}
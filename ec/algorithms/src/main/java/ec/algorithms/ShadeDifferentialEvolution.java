@@ -0,0 +1,288 @@
+package ec.algorithms;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import ec.core.Algorithm;
+import ec.core.DebugLog;
+import ec.core.Problem;
+import ec.core.Rng;
+import ec.core.Solution;
+
+// L-SHADE (Tanabe and Fukunaga, 2014): current-to-pbest/1 DE with an archive and F and CR drawn
+// around a success history; the population shrinks linearly from 18 D to 4. Trials come from the
+// run's rng, so a seed gives the same run with or without a pool.
+public class ShadeDifferentialEvolution extends Algorithm {
+
+    private final double populationPerDimension = 18; // r^Ninit
+    private final int minPopulationSize = 4;          // Nmin
+    private final int memorySize = 6;                 // H
+    private final double pBestRate = 0.11;            // p, current-to-pbest takes one of the best p N
+    private final double archiveRate = 2.6;           // |A| = r^arc N
+
+    // Caps the initial population so that it holds at most this many coordinates (16 MB), which
+    // keeps the 18 D individuals of large-scale runs (D = 1000 and more) in memory
+    private static final int MAX_POPULATION_ELEMENTS = 1 << 21;
+
+    private final boolean linearReduction;
+    private final ForkJoinPool pool;
+
+    public ShadeDifferentialEvolution() {
+        this(true, null);
+    }
+
+    // linearReduction false keeps the initial population size for the whole run (SHADE)
+    public ShadeDifferentialEvolution(boolean linearReduction) {
+        this(linearReduction, null);
+    }
+
+    public ShadeDifferentialEvolution(boolean linearReduction, ForkJoinPool pool) {
+        this.linearReduction = linearReduction;
+        this.pool = pool;
+    }
+
+    // Initial population size for a problem of the given dimension
+    public int getInitialPopulationSize(int dimensions) {
+        int size = (int) Math.round(populationPerDimension * dimensions);
+        size = Math.min(size, MAX_POPULATION_ELEMENTS / dimensions);
+        return Math.max(size, minPopulationSize);
+    }
+
+    @Override
+    public Solution execute(Problem p, boolean isDebug, Rng rng) {
+        int dimensions = p.getNumberOfDimension();
+        DebugLog log = debugLog(isDebug);
+        double[] lowerLimit = p.getLowerBounds();
+        double[] upperLimit = p.getUpperBounds();
+        int maxFes = p.getMaxFes();
+
+        int initialSize = getInitialPopulationSize(dimensions);
+        int size = initialSize;
+
+        // preallocated row-major matrices like DifferentialEvolution; the population is compacted
+        // in place when it shrinks and the archive keeps replaced parents
+        double[] population = new double[initialSize * dimensions];
+        double[] fitness = new double[initialSize];
+        double[] trials = new double[initialSize * dimensions];
+        double[] trialFitness = new double[initialSize];
+        int archiveCapacity = (int) Math.round(archiveRate * initialSize);
+        double[] archive = new double[archiveCapacity * dimensions];
+        int archiveSize = 0;
+
+        // success history of F and CR, NaN marks the terminal CR value (CR = 0 from then on)
+        double[] memoryF = new double[memorySize];
+        double[] memoryCr = new double[memorySize];
+        Arrays.fill(memoryF, 0.5);
+        Arrays.fill(memoryCr, 0.5);
+        int memoryIndex = 0;
+
+        // parameters of the current generation and its successful trials
+        double[] trialF = new double[initialSize];
+        double[] trialCr = new double[initialSize];
+        double[] successF = new double[initialSize];
+        double[] successCr = new double[initialSize];
+        double[] successWeight = new double[initialSize];
+        int[] order = new int[initialSize];
+        boolean[] keep = new boolean[initialSize];
+
+        // initialize population with random solutions
+        for (int i = 0; i < size; i++) {
+            int offset = i * dimensions;
+            for (int j = 0; j < dimensions; j++) {
+                population[offset + j] = lowerLimit[j] + (upperLimit[j] - lowerLimit[j]) * rng.nextDouble();
+            }
+        }
+        p.evaluateBatch(population, fitness, pool);
+
+        int bestIndex = 0;
+        for (int i = 0; i < size; i++) {
+            if (fitness[i] < fitness[bestIndex]) {
+                bestIndex = i;
+            }
+            if (trace != null) {
+                trace.record(i + 1, fitness[bestIndex]);
+            }
+        }
+        double[] bestX = Arrays.copyOfRange(population, bestIndex * dimensions, (bestIndex + 1) * dimensions);
+        double bestFitness = fitness[bestIndex];
+
+        while (!p.isTerminated()) {
+            FitnessOrder.sort(order, fitness, size);
+            int pBestCount = Math.max(2, (int) Math.round(pBestRate * size));
+
+            for (int i = 0; i < size; i++) {
+                // F and CR around a random memory entry
+                int r = rng.nextInt(memorySize);
+                double cr = Double.isNaN(memoryCr[r]) ? 0.0
+                        : Math.min(1.0, Math.max(0.0, memoryCr[r] + 0.1 * rng.nextGaussian()));
+                double f;
+                do {
+                    f = rng.nextCauchy(memoryF[r], 0.1);
+                } while (f <= 0);
+                f = Math.min(f, 1.0);
+                trialF[i] = f;
+                trialCr[i] = cr;
+
+                // pbest from the best p N, r1 from the population, r2 from population and archive
+                int pBest = order[rng.nextInt(pBestCount)];
+                int r1;
+                do {
+                    r1 = rng.nextInt(size);
+                } while (r1 == i);
+                int r2;
+                do {
+                    r2 = rng.nextInt(size + archiveSize);
+                } while (r2 == i || r2 == r1);
+                double[] x2 = r2 < size ? population : archive;
+                int x2Offset = (r2 < size ? r2 : r2 - size) * dimensions;
+
+                // current-to-pbest/1 with binomial crossover into row i of trials; a coordinate
+                // outside the bounds is put halfway between the bound and the parent
+                int xi = i * dimensions;
+                int xp = pBest * dimensions;
+                int x1 = r1 * dimensions;
+                int R = rng.nextInt(dimensions);
+                for (int j = 0; j < dimensions; j++) {
+                    if (rng.nextDouble() < cr || j == R) {
+                        double parent = population[xi + j];
+                        double vj = parent + f * (population[xp + j] - parent) + f * (population[x1 + j] - x2[x2Offset + j]);
+                        if (vj < lowerLimit[j]) {
+                            vj = (lowerLimit[j] + parent) / 2;
+                        } else if (vj > upperLimit[j]) {
+                            vj = (upperLimit[j] + parent) / 2;
+                        }
+                        trials[xi + j] = vj;
+                    } else {
+                        trials[xi + j] = population[xi + j];
+                    }
+                }
+            }
+
+            // evaluate all trial solutions at once, rows past the budget come back as +infinity
+            if (trialFitness.length != size) {
+                trialFitness = new double[size];
+            }
+            int generationStart = p.getCurrentFes();
+            p.evaluateBatch(trials, trialFitness, pool);
+
+            // selection; parents beaten by their trial go to the archive
+            int successes = 0;
+            for (int i = 0; i < size; i++) {
+                int offset = i * dimensions;
+                // rows refused by the budget come back as +infinity and were not evaluated
+                if (log != null && trialFitness[i] != Double.POSITIVE_INFINITY) {
+                    log.publish(DebugLog.Event.EVALUATION, generationStart + i + 1, trialFitness[i], trials, offset, dimensions);
+                }
+
+                if (trialFitness[i] <= fitness[i]) {
+                    if (trialFitness[i] < fitness[i]) {
+                        successF[successes] = trialF[i];
+                        successCr[successes] = trialCr[i];
+                        successWeight[successes] = fitness[i] - trialFitness[i];
+                        successes++;
+
+                        if (archiveCapacity > 0) {
+                            int slot = archiveSize < archiveCapacity ? archiveSize++ : rng.nextInt(archiveSize);
+                            System.arraycopy(population, offset, archive, slot * dimensions, dimensions);
+                        }
+                    }
+                    System.arraycopy(trials, offset, population, offset, dimensions);
+                    fitness[i] = trialFitness[i];
+                    if (trialFitness[i] < bestFitness) {
+                        bestFitness = trialFitness[i];
+                        System.arraycopy(trials, offset, bestX, 0, dimensions);
+                    }
+                }
+                if (trace != null) {
+                    trace.record(generationStart + i + 1, bestFitness);
+                }
+            }
+
+            // success history update with weighted Lehmer means
+            if (successes > 0) {
+                double weightSum = 0.0;
+                double maxCr = 0.0;
+                for (int s = 0; s < successes; s++) {
+                    weightSum += successWeight[s];
+                    maxCr = Math.max(maxCr, successCr[s]);
+                }
+                memoryF[memoryIndex] = lehmerMean(successF, successWeight, weightSum, successes);
+                memoryCr[memoryIndex] = Double.isNaN(memoryCr[memoryIndex]) || maxCr == 0.0 ? Double.NaN
+                        : lehmerMean(successCr, successWeight, weightSum, successes);
+                memoryIndex = (memoryIndex + 1) % memorySize;
+            }
+
+            // linear population size reduction: drop the worst individuals, shrink the archive
+            if (linearReduction) {
+                int fes = Math.min(p.getCurrentFes(), maxFes);
+                int newSize = (int) Math.round(initialSize + (double) (minPopulationSize - initialSize) * fes / maxFes);
+                newSize = Math.max(newSize, minPopulationSize);
+                if (newSize < size) {
+                    FitnessOrder.sort(order, fitness, size);
+                    // keep the best newSize rows, moving the kept rows that sit past newSize into
+                    // the dropped rows below it
+                    Arrays.fill(keep, 0, size, false);
+                    for (int k = 0; k < newSize; k++) {
+                        keep[order[k]] = true;
+                    }
+                    int free = 0;
+                    for (int i = newSize; i < size; i++) {
+                        if (keep[i]) {
+                            while (keep[free]) {
+                                free++;
+                            }
+                            System.arraycopy(population, i * dimensions, population, free * dimensions, dimensions);
+                            fitness[free] = fitness[i];
+                            free++;
+                        }
+                    }
+                    size = newSize;
+
+                    int newArchiveCapacity = (int) Math.round(archiveRate * size);
+                    while (archiveSize > newArchiveCapacity) {
+                        int removed = rng.nextInt(archiveSize);
+                        archiveSize--;
+                        System.arraycopy(archive, archiveSize * dimensions, archive, removed * dimensions, dimensions);
+                    }
+                    archiveCapacity = newArchiveCapacity;
+                }
+            }
+
+            // island model: send the best, immigrants replace the worst individuals they beat
+            if (migration != null && migration.endGeneration()) {
+                migration.emigrate(bestX, 0, dimensions, bestFitness);
+                for (Solution immigrant = migration.poll(); immigrant != null; immigrant = migration.poll()) {
+                    int worst = 0;
+                    for (int i = 1; i < size; i++) {
+                        if (fitness[i] > fitness[worst]) {
+                            worst = i;
+                        }
+                    }
+                    if (immigrant.getFitness() < fitness[worst]) {
+                        System.arraycopy(immigrant.getPosition(), 0, population, worst * dimensions, dimensions);
+                        fitness[worst] = immigrant.getFitness();
+                        if (immigrant.getFitness() < bestFitness) {
+                            bestFitness = immigrant.getFitness();
+                            System.arraycopy(immigrant.getPosition(), 0, bestX, 0, dimensions);
+                        }
+                    }
+                }
+            }
+        }
+
+        // Return the best solution
+        return new Solution(bestX, bestFitness);
+    }
+
+    // sum w x^2 / sum w x
+    private static double lehmerMean(double[] values, double[] weights, double weightSum, int n) {
+        double numerator = 0.0;
+        double denominator = 0.0;
+        for (int s = 0; s < n; s++) {
+            double w = weights[s] / weightSum;
+            numerator += w * values[s] * values[s];
+            denominator += w * values[s];
+        }
+        return numerator / denominator;
+    }
+}
@@ -0,0 +1,24 @@
+package ec.algorithms;
+
+import ec.core.Registry;
+import ec.core.RegistryProvider;
+
+// Registers the algorithms of this package with their default parameters; the meta-algorithms
+// (IslandModel, RestartStrategy) wrap another algorithm and are built in code
+public final class StandardAlgorithms implements RegistryProvider {
+
+    // Step size of the hill climbers in the task 2 runs
+    private static final double HILL_CLIMBING_STEP_SIZE = 0.1;
+
+    @Override
+    public void register(Registry registry) {
+        registry.addAlgorithm("RandomSearch", RandomSearch::new);
+        registry.addAlgorithm("HillClimbing", () -> new HillClimbing(HILL_CLIMBING_STEP_SIZE));
+        registry.addAlgorithm("ImprovedHillClimbing", () -> new ImprovedHillClimbing(HILL_CLIMBING_STEP_SIZE));
+        registry.addAlgorithm("DifferentialEvolution", DifferentialEvolution::new);
+        registry.addAlgorithm("SteadyStateDifferentialEvolution", SteadyStateDifferentialEvolution::new);
+        registry.addAlgorithm("ShadeDifferentialEvolution", ShadeDifferentialEvolution::new);
+        registry.addAlgorithm("ImprovedGrayWolfOptimization", ImprovedGrayWolfOptimization::new);
+        registry.addAlgorithm("CmaEvolutionStrategy", CmaEvolutionStrategy::new);
+    }
+}
@@ -0,0 +1,202 @@
+package ec.algorithms;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import ec.core.Algorithm;
+import ec.core.ConvergenceTrace;
+import ec.core.DebugLog;
+import ec.core.Problem;
+import ec.core.Rng;
+import ec.core.Solution;
+
+// Steady-state DE/rand/1/bin: a trial replaces its target as soon as it is evaluated, with no
+// generation barrier. With a pool every worker loops on its own and never waits for the others.
+public class SteadyStateDifferentialEvolution extends Algorithm {
+
+    private final int populationSize = 20; // NP
+    private final double crossoverRate = 0.5; // CR
+    private final double mutationFactor = 0.6; // F
+
+    // Pool of the worker threads, null runs a single worker in the calling thread
+    private final ForkJoinPool pool;
+
+    public SteadyStateDifferentialEvolution() {
+        this(null);
+    }
+
+    // One worker per thread of pool, each with its own Rng stream split from the run's rng.
+    // Which trial sees which replacement depends on timing, so with more than one worker a seed
+    // does not replay the same run. Without a pool the run is deterministic.
+    public SteadyStateDifferentialEvolution(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    public int getPopulationSize() {
+        return populationSize;
+    }
+
+    @Override
+    public Solution execute(Problem p, boolean isDebug, Rng rng) {
+        int dimensions = p.getNumberOfDimension();
+        double[] lowerLimit = p.getLowerBounds();
+        double[] upperLimit = p.getUpperBounds();
+
+        // initialize and evaluate the population like the generational DE
+        double[] initial = new double[populationSize * dimensions];
+        double[] initialFitness = new double[populationSize];
+        for (int i = 0; i < populationSize; i++) {
+            int offset = i * dimensions;
+            for (int j = 0; j < dimensions; j++) {
+                initial[offset + j] = lowerLimit[j] + (upperLimit[j] - lowerLimit[j]) * rng.nextDouble();
+            }
+        }
+        p.evaluateBatch(initial, initialFitness, pool);
+
+        Run run = new Run(p, debugLog(isDebug), trace);
+        for (int i = 0; i < populationSize; i++) {
+            double[] x = Arrays.copyOfRange(initial, i * dimensions, (i + 1) * dimensions);
+            run.population.set(i, new Member(x, initialFitness[i]));
+            run.recordBest(i + 1, initialFitness[i]);
+        }
+
+        if (pool == null) {
+            run.work(rng);
+        } else {
+            int workers = pool.getParallelism();
+            List<ForkJoinTask<?>> tasks = new ArrayList<>(workers);
+            for (int w = 0; w < workers; w++) {
+                Rng stream = rng.split();
+                tasks.add(pool.submit(() -> run.work(stream)));
+            }
+            for (ForkJoinTask<?> task : tasks) {
+                task.join();
+            }
+        }
+
+        // Return the best solution
+        Member best = run.population.get(0);
+        for (int i = 1; i < populationSize; i++) {
+            if (run.population.get(i).fitness < best.fitness) {
+                best = run.population.get(i);
+            }
+        }
+        return new Solution(Arrays.copyOf(best.x, dimensions), best.fitness);
+    }
+
+    // Member of the population, never changed once published; a replacement is a new Member
+    private static final class Member {
+        final double[] x;
+        final double fitness;
+
+        Member(double[] x, double fitness) {
+            this.x = x;
+            this.fitness = fitness;
+        }
+    }
+
+    // State of one run, shared by its workers
+    private final class Run {
+        final Problem problem;
+        final double[] lowerLimit;
+        final double[] upperLimit;
+        final AtomicReferenceArray<Member> population = new AtomicReferenceArray<>(populationSize);
+        final AtomicInteger nextTarget = new AtomicInteger();
+        final DebugLog log;
+        final ConvergenceTrace trace;
+        double bestFitness = Double.POSITIVE_INFINITY; // guarded by trace
+
+        Run(Problem problem, DebugLog log, ConvergenceTrace trace) {
+            this.problem = problem;
+            this.lowerLimit = problem.getLowerBounds();
+            this.upperLimit = problem.getUpperBounds();
+            this.log = log;
+            this.trace = trace;
+        }
+
+        // Creates, evaluates and inserts trials until the problem stops accepting evaluations
+        void work(Rng rng) {
+            int dimensions = lowerLimit.length;
+            double[] trial = new double[dimensions];
+
+            while (!problem.isTerminated()) {
+                // targets are taken in turn, so every member gets trials at the same rate
+                int i = (nextTarget.getAndIncrement() & Integer.MAX_VALUE) % populationSize;
+
+                // select random solutions a, b, c
+                int a, b, c;
+                do {
+                    a = rng.nextInt(populationSize);
+                } while (a == i);
+                do {
+                    b = rng.nextInt(populationSize);
+                } while (b == a || b == i);
+                do {
+                    c = rng.nextInt(populationSize);
+                } while (c == a || c == b || c == i);
+
+                double[] xi = population.get(i).x;
+                double[] xa = population.get(a).x;
+                double[] xb = population.get(b).x;
+                double[] xc = population.get(c).x;
+
+                // binomial crossover with the mutant v = xa + F (xb - xc), computed where it is taken
+                int R = rng.nextInt(dimensions);
+                for (int j = 0; j < dimensions; j++) {
+                    if (rng.nextDouble() < crossoverRate || j == R) {
+                        double vj = xa[j] + mutationFactor * (xb[j] - xc[j]);
+
+                        // ensure v is within problem boundaries
+                        if (vj < lowerLimit[j]) {
+                            vj = lowerLimit[j];
+                        } else if (vj > upperLimit[j]) {
+                            vj = upperLimit[j];
+                        }
+                        trial[j] = vj;
+                    } else {
+                        trial[j] = xi[j];
+                    }
+                }
+
+                double fitness = problem.fitnessFunction(trial);
+                // +infinity once the budget is spent, the trial was not evaluated
+                if (log != null && fitness != Double.POSITIVE_INFINITY) {
+                    log.publish(DebugLog.Event.EVALUATION, problem.getCurrentFes(), fitness, trial);
+                }
+
+                // selection against the current member i, which another worker may have replaced
+                Member child = null;
+                while (true) {
+                    Member current = population.get(i);
+                    if (fitness > current.fitness) {
+                        break;
+                    }
+                    if (child == null) {
+                        child = new Member(trial, fitness);
+                    }
+                    if (population.compareAndSet(i, current, child)) {
+                        trial = new double[dimensions]; // the old one is now in the population
+                        break;
+                    }
+                }
+
+                recordBest(problem.getCurrentFes(), fitness);
+            }
+        }
+
+        void recordBest(int fes, double fitness) {
+            if (trace == null) {
+                return;
+            }
+            synchronized (trace) {
+                bestFitness = Math.min(bestFitness, fitness);
+                trace.record(fes, bestFitness);
+            }
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package ec.algorithms;
+
+// Eigendecomposition of a symmetric matrix for CMA-ES (tred2 and tql2 as in EISPACK and JAMA),
+// worked on transposed so that the inner loops run along rows; eigenvectors come out as rows.
+final class SymmetricEigen {
+
+    private SymmetricEigen() {
+    }
+
+    // On entry v holds the symmetric n x n matrix, on exit its eigenvectors as rows (v[k] belongs
+    // to values[k]). offDiagonal is scratch of length n.
+    static void decompose(double[][] v, double[] values, double[] offDiagonal) {
+        tridiagonalize(v, values, offDiagonal);
+        diagonalize(v, values, offDiagonal);
+    }
+
+    // Householder reduction to tridiagonal form (tred2)
+    private static void tridiagonalize(double[][] v, double[] d, double[] e) {
+        int n = d.length;
+        for (int j = 0; j < n; j++) {
+            d[j] = v[j][n - 1];
+        }
+
+        for (int i = n - 1; i > 0; i--) {
+            // scale to avoid under/overflow
+            double scale = 0.0;
+            double h = 0.0;
+            for (int k = 0; k < i; k++) {
+                scale += Math.abs(d[k]);
+            }
+            if (scale == 0.0) {
+                e[i] = d[i - 1];
+                for (int j = 0; j < i; j++) {
+                    d[j] = v[j][i - 1];
+                    v[j][i] = 0.0;
+                    v[i][j] = 0.0;
+                }
+            } else {
+                // generate the Householder vector
+                for (int k = 0; k < i; k++) {
+                    d[k] /= scale;
+                    h += d[k] * d[k];
+                }
+                double f = d[i - 1];
+                double g = Math.sqrt(h);
+                if (f > 0) {
+                    g = -g;
+                }
+                e[i] = scale * g;
+                h -= f * g;
+                d[i - 1] = f - g;
+                for (int j = 0; j < i; j++) {
+                    e[j] = 0.0;
+                }
+
+                // apply the similarity transformation to the remaining columns
+                for (int j = 0; j < i; j++) {
+                    f = d[j];
+                    v[i][j] = f;
+                    g = e[j] + v[j][j] * f;
+                    for (int k = j + 1; k <= i - 1; k++) {
+                        g += v[j][k] * d[k];
+                        e[k] += v[j][k] * f;
+                    }
+                    e[j] = g;
+                }
+                f = 0.0;
+                for (int j = 0; j < i; j++) {
+                    e[j] /= h;
+                    f += e[j] * d[j];
+                }
+                double hh = f / (h + h);
+                for (int j = 0; j < i; j++) {
+                    e[j] -= hh * d[j];
+                }
+                for (int j = 0; j < i; j++) {
+                    f = d[j];
+                    g = e[j];
+                    for (int k = j; k <= i - 1; k++) {
+                        v[j][k] -= (f * e[k] + g * d[k]);
+                    }
+                    d[j] = v[j][i - 1];
+                    v[j][i] = 0.0;
+                }
+            }
+            d[i] = h;
+        }
+
+        // accumulate the transformations
+        for (int i = 0; i < n - 1; i++) {
+            v[i][n - 1] = v[i][i];
+            v[i][i] = 1.0;
+            double h = d[i + 1];
+            if (h != 0.0) {
+                for (int k = 0; k <= i; k++) {
+                    d[k] = v[i + 1][k] / h;
+                }
+                for (int j = 0; j <= i; j++) {
+                    double g = 0.0;
+                    for (int k = 0; k <= i; k++) {
+                        g += v[i + 1][k] * v[j][k];
+                    }
+                    for (int k = 0; k <= i; k++) {
+                        v[j][k] -= g * d[k];
+                    }
+                }
+            }
+            for (int k = 0; k <= i; k++) {
+                v[i + 1][k] = 0.0;
+            }
+        }
+        for (int j = 0; j < n; j++) {
+            d[j] = v[j][n - 1];
+            v[j][n - 1] = 0.0;
+        }
+        v[n - 1][n - 1] = 1.0;
+        e[0] = 0.0;
+    }
+
+    // QL algorithm with implicit shifts on the tridiagonal matrix (tql2)
+    private static void diagonalize(double[][] v, double[] d, double[] e) {
+        int n = d.length;
+        for (int i = 1; i < n; i++) {
+            e[i - 1] = e[i];
+        }
+        e[n - 1] = 0.0;
+
+        double f = 0.0;
+        double tst1 = 0.0;
+        double eps = Math.ulp(1.0);
+        for (int l = 0; l < n; l++) {
+            // find a small subdiagonal element
+            tst1 = Math.max(tst1, Math.abs(d[l]) + Math.abs(e[l]));
+            int m = l;
+            while (m < n - 1 && Math.abs(e[m]) > eps * tst1) {
+                m++;
+            }
+
+            // if m == l, d[l] is already an eigenvalue, otherwise iterate
+            if (m > l) {
+                do {
+                    // compute the implicit shift
+                    double g = d[l];
+                    double p = (d[l + 1] - g) / (2.0 * e[l]);
+                    double r = hypot(p, 1.0);
+                    if (p < 0) {
+                        r = -r;
+                    }
+                    d[l] = e[l] / (p + r);
+                    d[l + 1] = e[l] * (p + r);
+                    double dl1 = d[l + 1];
+                    double h = g - d[l];
+                    for (int i = l + 2; i < n; i++) {
+                        d[i] -= h;
+                    }
+                    f += h;
+
+                    // implicit QL transformation
+                    p = d[m];
+                    double c = 1.0;
+                    double c2 = c;
+                    double c3 = c;
+                    double el1 = e[l + 1];
+                    double s = 0.0;
+                    double s2 = 0.0;
+                    for (int i = m - 1; i >= l; i--) {
+                        c3 = c2;
+                        c2 = c;
+                        s2 = s;
+                        g = c * e[i];
+                        h = c * p;
+                        r = hypot(p, e[i]);
+                        e[i + 1] = s * r;
+                        s = e[i] / r;
+                        c = p / r;
+                        p = c * d[i] - s * g;
+                        d[i + 1] = h + s * (c * g + s * d[i]);
+
+                        // accumulate the transformation
+                        for (int k = 0; k < n; k++) {
+                            h = v[i + 1][k];
+                            v[i + 1][k] = s * v[i][k] + c * h;
+                            v[i][k] = c * v[i][k] - s * h;
+                        }
+                    }
+                    p = -s * s2 * c3 * el1 * e[l] / dl1;
+                    e[l] = s * p;
+                    d[l] = c * p;
+                } while (Math.abs(e[l]) > eps * tst1);
+            }
+            d[l] += f;
+            e[l] = 0.0;
+        }
+    }
+
+    // sqrt(a^2 + b^2) without the extra care of Math.hypot, which is slow and not needed here
+    private static double hypot(double a, double b) {
+        return Math.sqrt(a * a + b * b);
+    }
+}
@@ -0,0 +1,158 @@
+package ec.algorithms;
+
+import java.util.Arrays;
+
+// Bounded set of visited positions for the hill climbers: 64-bit fingerprints of the positions
+// rounded to the resolution, in an open-addressing table of longs. Past capacity the oldest one is
+// evicted; the hash of a one-coordinate move follows from the current one in O(1).
+final class VisitedSet {
+
+    static final int DEFAULT_CAPACITY = 1 << 16;
+    static final double DEFAULT_RESOLUTION = 1e-9;
+
+    private static final long EMPTY = 0L;
+    private static final long MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    private final long[] table; // fingerprints, EMPTY marks a free slot
+    private final int mask;
+    private final long[] order; // ring buffer of fingerprints in insertion order, for eviction
+    private final double scale;
+    private long[] weights = new long[0]; // MULTIPLIER^(D - 1 - i), the weight of coordinate i
+    private int head;
+    private int size;
+
+    VisitedSet() {
+        this(DEFAULT_CAPACITY, DEFAULT_RESOLUTION);
+    }
+
+    VisitedSet(int capacity, double resolution) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        if (!(resolution > 0)) {
+            throw new IllegalArgumentException("Resolution must be positive: " + resolution);
+        }
+        // keep the load factor at or below 1/2
+        int tableSize = Integer.highestOneBit(Math.max(2, capacity) * 2 - 1) << 1;
+        this.table = new long[tableSize];
+        this.mask = tableSize - 1;
+        this.order = new long[capacity];
+        this.scale = 1.0 / resolution;
+    }
+
+    boolean contains(double[] x) {
+        return containsHash(hash(x));
+    }
+
+    // Returns false if the position was already in the set
+    boolean add(double[] x) {
+        return addHash(hash(x));
+    }
+
+    // Hash of x before mixing, the argument of moveHash, containsHash and addHash
+    long hash(double[] x) {
+        long h = x.length;
+        for (double value : x) {
+            h = h * MULTIPLIER + Math.round(value * scale);
+        }
+        return h;
+    }
+
+    // Hash of the position whose coordinate index (of dimensions) changes from 'from' to 'to',
+    // given the hash of the unchanged position
+    long moveHash(long hash, int dimensions, int index, double from, double to) {
+        if (weights.length != dimensions) {
+            weights = new long[dimensions];
+            long w = 1L;
+            for (int i = dimensions - 1; i >= 0; i--) {
+                weights[i] = w;
+                w *= MULTIPLIER;
+            }
+        }
+        return hash + (Math.round(to * scale) - Math.round(from * scale)) * weights[index];
+    }
+
+    boolean containsHash(long hash) {
+        return indexOf(fingerprint(hash)) >= 0;
+    }
+
+    // Returns false if the position was already in the set
+    boolean addHash(long hash) {
+        long key = fingerprint(hash);
+        if (indexOf(key) >= 0) {
+            return false;
+        }
+        if (size == order.length) {
+            remove(order[head]);
+            head = (head + 1) % order.length;
+            size--;
+        }
+        int i = slot(key);
+        while (table[i] != EMPTY) {
+            i = (i + 1) & mask;
+        }
+        table[i] = key;
+        order[(head + size) % order.length] = key;
+        size++;
+        return true;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int capacity() {
+        return order.length;
+    }
+
+    void clear() {
+        Arrays.fill(table, EMPTY);
+        head = 0;
+        size = 0;
+    }
+
+    private long fingerprint(long h) {
+        // SplitMix64 finalizer, spreads the bits for the slot mask
+        h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+        h = h ^ (h >>> 31);
+        return h == EMPTY ? 1L : h;
+    }
+
+    private int slot(long key) {
+        return (int) key & mask;
+    }
+
+    private int indexOf(long key) {
+        int i = slot(key);
+        while (table[i] != EMPTY) {
+            if (table[i] == key) {
+                return i;
+            }
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    // Backward-shift deletion, keeps every probe chain intact without tombstones
+    private void remove(long key) {
+        int i = indexOf(key);
+        if (i < 0) {
+            return;
+        }
+        int j = i;
+        while (true) {
+            j = (j + 1) & mask;
+            long k = table[j];
+            if (k == EMPTY) {
+                break;
+            }
+            // move k into the hole unless its home slot lies cyclically in (i, j]
+            if (((j - slot(k)) & mask) >= ((j - i) & mask)) {
+                table[i] = k;
+                i = j;
+            }
+        }
+        table[i] = EMPTY;
+    }
+}
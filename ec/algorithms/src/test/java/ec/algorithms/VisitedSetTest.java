@@ -0,0 +1,101 @@
+package ec.algorithms;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class VisitedSetTest {
+
+    @Test
+    void containsAddedPositions() {
+        VisitedSet visited = new VisitedSet(16, 1e-6);
+        double[] x = { 0.25, -1.5, 3.0 };
+
+        assertFalse(visited.contains(x));
+        assertTrue(visited.add(x));
+        assertTrue(visited.contains(x));
+        assertFalse(visited.add(x));
+        assertFalse(visited.contains(new double[] { 0.25, -1.5, 3.1 }));
+        assertEquals(1, visited.size());
+    }
+
+    @Test
+    void positionsAreRoundedToTheResolution() {
+        VisitedSet visited = new VisitedSet(16, 1e-3);
+        visited.add(new double[] { 1.0, 2.0 });
+
+        assertTrue(visited.contains(new double[] { 1.0002, 1.9998 }));
+        assertFalse(visited.contains(new double[] { 1.002, 2.0 }));
+    }
+
+    @Test
+    void moveHashMatchesTheHashOfTheMovedPosition() {
+        VisitedSet visited = new VisitedSet(16, 1e-9);
+        double[] x = { 0.5, -2.25, 7.0, 1e-3 };
+        long hash = visited.hash(x);
+
+        long moved = visited.moveHash(hash, x.length, 2, x[2], -4.5);
+        x[2] = -4.5;
+
+        assertEquals(visited.hash(x), moved);
+        visited.addHash(moved);
+        assertTrue(visited.contains(x));
+    }
+
+    @Test
+    void evictsTheOldestPosition() {
+        VisitedSet visited = new VisitedSet(4, 1.0);
+        for (int i = 0; i < 5; i++) {
+            assertTrue(visited.add(new double[] { i }));
+        }
+
+        assertEquals(4, visited.size());
+        assertFalse(visited.contains(new double[] { 0 }));
+        for (int i = 1; i < 5; i++) {
+            assertTrue(visited.contains(new double[] { i }));
+        }
+    }
+
+    // Many evictions from a small table: backward-shift deletion must keep every probe chain intact
+    @Test
+    void keepsTheLatestPositionsThroughManyEvictions() {
+        int capacity = 64;
+        VisitedSet visited = new VisitedSet(capacity, 1e-9);
+        Random random = new Random(42);
+        double[][] positions = new double[10_000][];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = new double[] { random.nextDouble(), random.nextDouble() };
+            visited.add(positions[i]);
+        }
+
+        assertEquals(capacity, visited.size());
+        for (int i = 0; i < positions.length; i++) {
+            assertEquals(i >= positions.length - capacity, visited.contains(positions[i]), "position " + i);
+        }
+    }
+
+    @Test
+    void clearEmptiesTheSet() {
+        VisitedSet visited = new VisitedSet(8, 1e-9);
+        double[] x = { 1.0 };
+        visited.add(x);
+
+        visited.clear();
+
+        assertEquals(0, visited.size());
+        assertFalse(visited.contains(x));
+        assertTrue(visited.add(x));
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new VisitedSet(0, 1e-9));
+        assertThrows(IllegalArgumentException.class, () -> new VisitedSet(8, 0.0));
+        assertThrows(IllegalArgumentException.class, () -> new VisitedSet(8, Double.NaN));
+    }
+}
@@ -0,0 +1,54 @@
+package ec.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import ec.algorithms.DifferentialEvolution;
+import ec.algorithms.ImprovedGrayWolfOptimization;
+import ec.core.Problem;
+import ec.core.Rng;
+import ec.core.Solution;
+import ec.runner.Problems;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Cost of one generation of DE and IGWO: every invocation runs a fresh problem whose budget ends
+// after the first generation, so the numbers include the initialization. Compare them with each
+// other and across commits, not as a pure per-generation cost.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class AlgorithmBenchmark {
+
+    @Param({"Sphere", "Rastrigin"})
+    public String problemName;
+
+    @Param({"10", "30"})
+    public int dimension;
+
+    private final DifferentialEvolution de = new DifferentialEvolution();
+    private final ImprovedGrayWolfOptimization igwo = new ImprovedGrayWolfOptimization();
+    private final Rng rng = new Rng(42);
+
+    @Benchmark
+    public Solution differentialEvolutionGeneration() {
+        Problem problem = Problems.create(problemName, dimension, 2 * de.getPopulationSize());
+        return de.execute(problem, false, rng);
+    }
+
+    @Benchmark
+    public Solution igwoGeneration() {
+        Problem problem = Problems.create(problemName, dimension, 3 * igwo.getPopulationSize());
+        return igwo.execute(problem, false, rng);
+    }
+}
@@ -0,0 +1,93 @@
+package ec.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import ec.core.Problem;
+import ec.core.Rng;
+import ec.core.Solution;
+import ec.runner.Problems;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Throughput of one fitness evaluation of every benchmark function, on points drawn inside the
+// limits once per trial and cycled through, so the JIT can't fold the call away.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ProblemBenchmark {
+
+    private static final int POINTS = 256; // power of two, index wraps with a mask
+    private static final int BATCH = 32;   // rows per evaluateBatch call, a typical population
+
+    @Param({"Ackley", "Griewank", "Levy", "Michalewicz", "Rastrigin",
+            "Rosenbrock", "Schwefel", "Sphere", "StyblinskiTang", "Trid"})
+    public String problemName;
+
+    @Param({"2", "10", "30", "100"})
+    public int dimension;
+
+    private Problem problem;
+    private double[][] points;
+    private Double[][] boxedPoints;
+    private double[] population;
+    private double[] fitness;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // unlimited budget, the counter is cleared before every iteration
+        problem = Problems.create(problemName, dimension, Integer.MAX_VALUE);
+        Rng rng = new Rng(42);
+
+        points = new double[POINTS][];
+        boxedPoints = new Double[POINTS][];
+        for (int i = 0; i < POINTS; i++) {
+            points[i] = problem.generateRandomSolution(rng).getPosition();
+            boxedPoints[i] = Solution.toBoxed(points[i]);
+        }
+
+        population = new double[BATCH * dimension];
+        for (int i = 0; i < BATCH; i++) {
+            System.arraycopy(points[i], 0, population, i * dimension, dimension);
+        }
+        fitness = new double[BATCH];
+    }
+
+    @Setup(Level.Iteration)
+    public void resetBudget() {
+        problem.reset();
+    }
+
+    @Benchmark
+    public double evaluate() {
+        return problem.fitnessFunction(points[next++ & (POINTS - 1)]);
+    }
+
+    // Old Double[] entry point, to compare against evaluate()
+    @Benchmark
+    public double evaluateBoxed() {
+        return problem.fitnessFunction(boxedPoints[next++ & (POINTS - 1)]);
+    }
+
+    // Reported per row, so it reads the same as evaluate()
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public double[] evaluateBatch() {
+        problem.evaluateBatch(population, fitness);
+        return fitness;
+    }
+}
@@ -0,0 +1,83 @@
+package ec.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import ec.algorithms.DifferentialEvolution;
+import ec.algorithms.ImprovedGrayWolfOptimization;
+import ec.core.Problem;
+import ec.core.Rng;
+import ec.core.Solution;
+import ec.runner.Problems;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Time per evaluation against the dimension: evaluate() is the bare function, the algorithm rows
+// are runs of RUN_FES evaluations divided by RUN_FES, so the difference is the algorithm's own cost
+// per FE. Bukin and CarromTable only use two coordinates and are left out.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ScalingBenchmark {
+
+    private static final int POINTS = 16; // power of two, index wraps with a mask
+    private static final int RUN_FES = 600; // multiple of both population sizes
+
+    @Param({"Ackley", "Griewank", "Levy", "Michalewicz", "Rastrigin", "Rosenbrock", "Schwefel", "Sphere",
+            "StyblinskiTang", "Trid"})
+    public String problemName;
+
+    @Param({"100", "1000", "10000"})
+    public int dimension;
+
+    private final DifferentialEvolution de = new DifferentialEvolution();
+    private final ImprovedGrayWolfOptimization igwo = new ImprovedGrayWolfOptimization();
+    private final Rng rng = new Rng(42);
+
+    private Problem problem;
+    private Problem runProblem;
+    private double[][] points;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        problem = Problems.create(problemName, dimension, Integer.MAX_VALUE);
+        runProblem = Problems.create(problemName, dimension, RUN_FES);
+
+        points = new double[POINTS][];
+        for (int i = 0; i < POINTS; i++) {
+            points[i] = problem.generateRandomSolution(rng).getPosition();
+        }
+    }
+
+    @Benchmark
+    public double evaluate() {
+        return problem.fitnessFunction(points[next++ & (POINTS - 1)]);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RUN_FES)
+    public Solution differentialEvolution() {
+        runProblem.reset();
+        return de.execute(runProblem, false, rng);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RUN_FES)
+    public Solution igwo() {
+        runProblem.reset();
+        return igwo.execute(runProblem, false, rng);
+    }
+}
@@ -0,0 +1,92 @@
+package ec.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import ec.core.Problem;
+import ec.core.Rng;
+import ec.runner.Problems;
+import ec.vector.VectorProblems;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Scalar against Vector API kernels of the separable functions at high dimensions. Without the
+// incubator module the vector rows fail in setup instead of measuring the scalar code.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Thread)
+public class VectorProblemBenchmark {
+
+    private static final int POINTS = 64; // power of two, index wraps with a mask
+    private static final int BATCH = 32;  // rows per evaluateBatch call
+
+    @Param({"Ackley", "Griewank", "Rastrigin", "Schwefel", "Sphere", "StyblinskiTang"})
+    public String problemName;
+
+    @Param({"10", "100", "1000"})
+    public int dimension;
+
+    @Param({"scalar", "vector"})
+    public String kernel;
+
+    private Problem problem;
+    private double[][] points;
+    private double[] population;
+    private double[] fitness;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if (kernel.equals("vector")) {
+            problem = VectorProblems.create(problemName, dimension, Integer.MAX_VALUE);
+            if (problem == null) {
+                throw new IllegalStateException("Vector API not available");
+            }
+        } else {
+            problem = Problems.create(problemName, dimension, Integer.MAX_VALUE);
+        }
+        Rng rng = new Rng(42);
+
+        points = new double[POINTS][];
+        for (int i = 0; i < POINTS; i++) {
+            points[i] = problem.generateRandomSolution(rng).getPosition();
+        }
+
+        population = new double[BATCH * dimension];
+        for (int i = 0; i < BATCH; i++) {
+            System.arraycopy(points[i], 0, population, i * dimension, dimension);
+        }
+        fitness = new double[BATCH];
+    }
+
+    @Setup(Level.Iteration)
+    public void resetBudget() {
+        problem.reset();
+    }
+
+    @Benchmark
+    public double evaluate() {
+        return problem.fitnessFunction(points[next++ & (POINTS - 1)]);
+    }
+
+    // Reported per row, so it reads the same as evaluate()
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public double[] evaluateBatch() {
+        problem.evaluateBatch(population, fitness);
+        return fitness;
+    }
+}
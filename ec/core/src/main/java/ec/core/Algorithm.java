@@ -0,0 +1,55 @@
+package ec.core;
+
+public abstract class Algorithm {
+
+    // Optional convergence trace of the next run, null records nothing
+    protected ConvergenceTrace trace;
+
+    // Island model channel of the next run, null runs a single population
+    protected Migration migration;
+
+    // Where debug events go, null means the shared console log
+    private DebugLog log;
+
+    // Unseeded convenience overload
+    public Solution execute(Problem p, boolean isDebug) {
+        return execute(p, isDebug, new Rng());
+    }
+
+    // All randomness of the run comes from rng, so the same seed replays the same run
+    public abstract Solution execute(Problem p, boolean isDebug, Rng rng);
+
+    // The algorithm records its best-so-far fitness into trace while it runs; the trace is
+    // not reset between runs, reset it (or set a new one) before reusing the algorithm
+    public void setTrace(ConvergenceTrace trace) {
+        this.trace = trace;
+    }
+
+    public ConvergenceTrace getTrace() {
+        return trace;
+    }
+
+    // Makes the algorithm an island: it exchanges individuals through migration while it runs.
+    // Algorithms without migration support ignore it and run as an isolated island.
+    public void setMigration(Migration migration) {
+        this.migration = migration;
+    }
+
+    public Migration getMigration() {
+        return migration;
+    }
+
+    // Debug events of the runs in debug mode go to log instead of the console
+    public void setDebugLog(DebugLog log) {
+        this.log = log;
+    }
+
+    // The log for a run, null when isDebug is false so the loops only test for null
+    protected DebugLog debugLog(boolean isDebug) {
+        if (!isDebug) {
+            return null;
+        }
+        return log != null ? log : DebugLog.console();
+    }
+
+}
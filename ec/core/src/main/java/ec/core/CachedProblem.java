@@ -0,0 +1,257 @@
+package ec.core;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// Problem decorator caching the fitness of exact vectors in a bounded set-associative table shared
+// by all threads (CLOCK eviction, striped locks). Hits count toward the budget by default; with
+// countHits false the first FREE_HITS_PER_FE * maxFes hits of a run are free, so a run stuck on
+// cached vectors still ends. Only pays off for expensive fitness functions.
+public final class CachedProblem extends Problem {
+
+    private static final int WAYS = 8;
+    private static final int MAX_LOCKS = 256;
+    private static final long EMPTY = 0L;
+    private static final long MULTIPLIER = 0x9E3779B97F4A7C15L;
+    static final int FREE_HITS_PER_FE = 10; // free hits per FE of the budget when hits are not counted
+
+    private final Problem problem;
+    private final boolean countHits;
+    private final long freeHitLimit;
+
+    // slot s holds the vector keys[s * D .. (s + 1) * D) with fitness values[s]; hashes[s] is
+    // EMPTY for a free slot and referenced[s] is the CLOCK bit
+    private final int setMask;
+    private final double[] keys;
+    private final double[] values;
+    private final long[] hashes;
+    private final boolean[] referenced;
+    private final int[] hands; // CLOCK hand of every set
+    private final Object[] locks;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final AtomicLong freeHits = new AtomicLong();
+
+    // Caches about capacity vectors of problem (rounded up to a power of two), hits counted
+    public CachedProblem(Problem problem, int capacity) {
+        this(problem, capacity, true);
+    }
+
+    // The decorator keeps its own budget and termination state (maxFes of problem), problem is
+    // only used for its fitness function
+    public CachedProblem(Problem problem, int capacity, boolean countHits) {
+        super(problem.getName(), problem.getNumberOfDimension(), problem.getMaxFes());
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.problem = problem;
+        this.countHits = countHits;
+        this.freeHitLimit = (long) FREE_HITS_PER_FE * problem.getMaxFes();
+        upperLimit = problem.upperLimit;
+        lowerLimit = problem.lowerLimit;
+
+        int sets = Integer.highestOneBit(Math.max(1, (capacity + WAYS - 1) / WAYS));
+        if (sets * WAYS < capacity) {
+            sets <<= 1;
+        }
+        long cells = (long) sets * WAYS * numberOfDimension;
+        if (cells > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Cache of " + capacity + " vectors of " + numberOfDimension
+                    + " coordinates is too large");
+        }
+        this.setMask = sets - 1;
+        this.keys = new double[(int) cells];
+        this.values = new double[sets * WAYS];
+        this.hashes = new long[sets * WAYS];
+        this.referenced = new boolean[sets * WAYS];
+        this.hands = new int[sets];
+        this.locks = new Object[Math.min(sets, MAX_LOCKS)];
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    @Override
+    protected double evaluate(double[] x, int offset) {
+        long hash = hash(x, offset);
+        int slot = find(x, offset, hash);
+        if (slot >= 0) {
+            return hit(slot);
+        }
+        misses.increment();
+        double fitness = problem.evaluate(x, offset);
+        store(x, offset, hash, fitness);
+        return fitness;
+    }
+
+    // Moves keep the O(1) update of the wrapped problem on a miss; the cached value is that update
+    @Override
+    protected double evaluate(double[] x, double fx, int index, double value) {
+        double old = x[index];
+        x[index] = value;
+        long hash;
+        try {
+            hash = hash(x, 0);
+            int slot = find(x, 0, hash);
+            if (slot >= 0) {
+                return hit(slot);
+            }
+        } finally {
+            x[index] = old;
+        }
+        misses.increment();
+        double fitness = problem.evaluate(x, fx, index, value);
+        x[index] = value;
+        try {
+            store(x, 0, hash, fitness);
+        } finally {
+            x[index] = old;
+        }
+        return fitness;
+    }
+
+    @Override
+    double evaluateUncounted(double[] x) {
+        return problem.evaluate(x, 0);
+    }
+
+    @Override
+    public double getOptimumFitness() {
+        return problem.getOptimumFitness();
+    }
+
+    @Override
+    public double[] getOptimumPosition() {
+        return problem.getOptimumPosition();
+    }
+
+    private double hit(int slot) {
+        hits.increment();
+        if (!countHits && freeHits.incrementAndGet() <= freeHitLimit) {
+            refund(1);
+        }
+        return values[slot];
+    }
+
+    // Slot holding x, -1 when it is not cached
+    private int find(double[] x, int offset, long hash) {
+        int set = (int) hash & setMask;
+        int base = set * WAYS;
+        synchronized (locks[set % locks.length]) {
+            for (int slot = base; slot < base + WAYS; slot++) {
+                if (hashes[slot] == hash && sameKey(slot, x, offset)) {
+                    referenced[slot] = true;
+                    return slot;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private void store(double[] x, int offset, long hash, double fitness) {
+        int set = (int) hash & setMask;
+        int base = set * WAYS;
+        synchronized (locks[set % locks.length]) {
+            // another thread may have stored it meanwhile, otherwise take a free slot or the first
+            // one the CLOCK hand finds unreferenced
+            int victim = -1;
+            for (int slot = base; slot < base + WAYS; slot++) {
+                if (hashes[slot] == hash && sameKey(slot, x, offset)) {
+                    return;
+                }
+                if (victim < 0 && hashes[slot] == EMPTY) {
+                    victim = slot;
+                }
+            }
+            if (victim < 0) {
+                int hand = hands[set];
+                while (referenced[base + hand]) {
+                    referenced[base + hand] = false;
+                    hand = (hand + 1) % WAYS;
+                }
+                victim = base + hand;
+                hands[set] = (hand + 1) % WAYS;
+            }
+            System.arraycopy(x, offset, keys, victim * numberOfDimension, numberOfDimension);
+            values[victim] = fitness;
+            hashes[victim] = hash;
+            referenced[victim] = false;
+        }
+    }
+
+    private boolean sameKey(int slot, double[] x, int offset) {
+        int start = slot * numberOfDimension;
+        for (int i = 0; i < numberOfDimension; i++) {
+            if (Double.doubleToLongBits(keys[start + i]) != Double.doubleToLongBits(x[offset + i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Hash of the bits of x[offset .. offset + D), never EMPTY
+    private long hash(double[] x, int offset) {
+        long h = numberOfDimension;
+        for (int i = offset; i < offset + numberOfDimension; i++) {
+            h = (h ^ Double.doubleToLongBits(x[i])) * MULTIPLIER;
+        }
+        // SplitMix64 finalizer, spreads the bits for the set mask
+        h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+        h ^= h >>> 31;
+        return h == EMPTY ? 1L : h;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    // Hits per lookup, 0 before the first one
+    public double getHitRate() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0.0 : (double) h / total;
+    }
+
+    // Number of vectors the cache holds at most
+    public int getCapacity() {
+        return values.length;
+    }
+
+    public Problem getProblem() {
+        return problem;
+    }
+
+    // Empties the cache and its statistics
+    public void clear() {
+        for (Object lock : locks) {
+            synchronized (lock) {
+                for (int set = 0; set <= setMask; set++) {
+                    if (locks[set % locks.length] == lock) {
+                        int base = set * WAYS;
+                        for (int slot = base; slot < base + WAYS; slot++) {
+                            hashes[slot] = EMPTY;
+                            referenced[slot] = false;
+                        }
+                        hands[set] = 0;
+                    }
+                }
+            }
+        }
+        hits.reset();
+        misses.reset();
+        freeHits.set(0);
+    }
+
+    // Like Problem.reset, and empties the cache so that the next run pays for its own evaluations
+    @Override
+    public void reset() {
+        super.reset();
+        clear();
+    }
+}
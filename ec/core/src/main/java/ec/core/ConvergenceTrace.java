@@ -0,0 +1,129 @@
+package ec.core;
+
+import java.util.Arrays;
+
+// Best-so-far fitness of one run at fixed evaluation counts (checkpoints), for anytime curves.
+// record() costs one comparison until the next checkpoint, unreached checkpoints stay NaN.
+// Not thread-safe, one trace per run.
+public final class ConvergenceTrace {
+
+    private final int[] checkpoints;
+    private final double[] values;
+    private int reached;
+    private int nextCheckpoint;
+    private double carriedBest;
+
+    // checkpoints must be positive and strictly increasing
+    public ConvergenceTrace(int[] checkpoints) {
+        for (int i = 0; i < checkpoints.length; i++) {
+            if (checkpoints[i] <= 0 || (i > 0 && checkpoints[i] <= checkpoints[i - 1])) {
+                throw new IllegalArgumentException("Checkpoints must be positive and increasing: " + Arrays.toString(checkpoints));
+            }
+        }
+        this.checkpoints = checkpoints.clone();
+        this.values = new double[checkpoints.length];
+        reset();
+    }
+
+    // Checkpoints at 1, 10^(1/pointsPerDecade), 10^(2/pointsPerDecade), ... (rounded, duplicates
+    // dropped) up to maxFes, which is always the last one
+    public static ConvergenceTrace logSpaced(int maxFes, int pointsPerDecade) {
+        if (maxFes <= 0 || pointsPerDecade <= 0) {
+            throw new IllegalArgumentException("maxFes and pointsPerDecade must be positive");
+        }
+        int[] checkpoints = new int[(int) Math.ceil(Math.log10(maxFes) * pointsPerDecade) + 2];
+        int count = 0;
+        for (int k = 0; ; k++) {
+            long fes = Math.round(Math.pow(10.0, (double) k / pointsPerDecade));
+            if (fes >= maxFes) {
+                break;
+            }
+            if (count == 0 || fes > checkpoints[count - 1]) {
+                checkpoints[count++] = (int) fes;
+            }
+        }
+        checkpoints[count++] = maxFes;
+        return new ConvergenceTrace(Arrays.copyOf(checkpoints, count));
+    }
+
+    // Checkpoints every maxFes / points evaluations (rounded up), the last one is maxFes
+    public static ConvergenceTrace linear(int maxFes, int points) {
+        if (maxFes <= 0 || points <= 0) {
+            throw new IllegalArgumentException("maxFes and points must be positive");
+        }
+        int[] checkpoints = new int[Math.min(points, maxFes)];
+        int count = 0;
+        for (int i = 1; i <= checkpoints.length; i++) {
+            int fes = (int) ((long) maxFes * i + checkpoints.length - 1) / checkpoints.length;
+            if (count == 0 || fes > checkpoints[count - 1]) {
+                checkpoints[count++] = fes;
+            }
+        }
+        return new ConvergenceTrace(Arrays.copyOf(checkpoints, count));
+    }
+
+    // Best fitness found within the first fes evaluations. Every checkpoint up to fes that has
+    // no value yet gets bestFitness, so calling it less often (e.g. once per generation) is
+    // allowed, the checkpoints passed in between then get the value at the end of the step.
+    public void record(int fes, double bestFitness) {
+        if (fes >= nextCheckpoint) {
+            fill(fes, bestFitness);
+        }
+    }
+
+    // Best fitness of the earlier stages of the run, for restart strategies whose stages record
+    // their own best: values filled from now on are at most bestFitness
+    public void carryOver(double bestFitness) {
+        carriedBest = Math.min(carriedBest, bestFitness);
+    }
+
+    private void fill(int fes, double bestFitness) {
+        double value = Math.min(bestFitness, carriedBest);
+        while (reached < checkpoints.length && checkpoints[reached] <= fes) {
+            values[reached++] = value;
+        }
+        nextCheckpoint = reached < checkpoints.length ? checkpoints[reached] : Integer.MAX_VALUE;
+    }
+
+    // Clears the values so the trace can record another run with the same checkpoints
+    public void reset() {
+        Arrays.fill(values, Double.NaN);
+        reached = 0;
+        nextCheckpoint = checkpoints.length > 0 ? checkpoints[0] : Integer.MAX_VALUE;
+        carriedBest = Double.POSITIVE_INFINITY;
+    }
+
+    public int size() {
+        return checkpoints.length;
+    }
+
+    // Number of checkpoints the run has passed, the values after them are NaN
+    public int getReached() {
+        return reached;
+    }
+
+    public int getCheckpoint(int i) {
+        return checkpoints[i];
+    }
+
+    public double getValue(int i) {
+        return values[i];
+    }
+
+    public int[] getCheckpoints() {
+        return checkpoints.clone();
+    }
+
+    public double[] getValues() {
+        return values.clone();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < reached; i++) {
+            sb.append(checkpoints[i]).append(' ').append(values[i]).append('\n');
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,220 @@
+package ec.core;
+
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+// Debug output of the algorithms: primitive events go into a bounded lock-free ring buffer and a
+// background thread prints them, so a run does not wait for the console. When it falls behind,
+// events are dropped (EVALUATION ones from half full) and their number is printed instead.
+public final class DebugLog implements AutoCloseable {
+
+    public enum Event {
+        EVALUATION,  // an evaluated point
+        NEW_BEST,    // new best-so-far of the run
+        IMPROVED,    // the current point moved to a better one
+        RESTART,     // the search restarted from a new point
+        STEP_SIZE    // the step size changed, value is the new step size
+    }
+
+    public static final int DEFAULT_CAPACITY = 1 << 14;
+
+    private static final long IDLE_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+    private static final Event[] EVENTS = Event.values();
+
+    private static DebugLog console;
+
+    private final PrintStream out;
+    private final int mask;
+
+    // slot i is free for position p when sequences[i] == p and holds the event of p when it is p + 1
+    private final AtomicLongArray sequences;
+    private final int[] kinds;
+    private final int[] fes;
+    private final double[] values;
+    private final double[][] vectors;
+    private final int[] vectorLengths;
+
+    private final AtomicLong tail = new AtomicLong();  // next position to publish
+    private final AtomicLong head = new AtomicLong();  // next position to print, written by the consumer only
+    private final AtomicLong dropped = new AtomicLong();
+
+    private final Thread consumer;
+    private volatile boolean closed;
+
+    // capacity is rounded up to a power of two
+    public DebugLog(PrintStream out, int capacity) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("Capacity must be at least 2: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.out = out;
+        this.mask = size - 1;
+        sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        kinds = new int[size];
+        fes = new int[size];
+        values = new double[size];
+        vectors = new double[size][];
+        vectorLengths = new int[size];
+
+        consumer = new Thread(this::consume, "ec-debug-log");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    // Shared log on System.out, used by the algorithms in debug mode. Drained when the JVM exits.
+    public static synchronized DebugLog console() {
+        if (console == null) {
+            DebugLog log = new DebugLog(System.out, DEFAULT_CAPACITY);
+            Runtime.getRuntime().addShutdownHook(new Thread(log::close, "ec-debug-log-shutdown"));
+            console = log;
+        }
+        return console;
+    }
+
+    public void publish(Event event, int fes, double value) {
+        publish(event, fes, value, null, 0, 0);
+    }
+
+    public void publish(Event event, int fes, double value, double[] x) {
+        publish(event, fes, value, x, 0, x.length);
+    }
+
+    // The vector x[offset .. offset + length) is copied, x can be changed right after the call
+    public void publish(Event event, int fes, double value, double[] x, int offset, int length) {
+        int capacity = mask + 1;
+        int limit = event == Event.EVALUATION ? capacity / 2 : capacity;
+        long position = tail.get();
+        while (true) {
+            if (position - head.get() >= limit || closed) {
+                dropped.incrementAndGet();
+                return;
+            }
+            long sequence = sequences.get((int) position & mask);
+            if (sequence == position) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+            }
+            position = tail.get();
+        }
+
+        int slot = (int) position & mask;
+        kinds[slot] = event.ordinal();
+        this.fes[slot] = fes;
+        values[slot] = value;
+        if (x != null) {
+            if (vectors[slot] == null || vectors[slot].length < length) {
+                vectors[slot] = new double[length];
+            }
+            System.arraycopy(x, offset, vectors[slot], 0, length);
+            vectorLengths[slot] = length;
+        } else {
+            vectorLengths[slot] = -1;
+        }
+        sequences.lazySet(slot, position + 1); // publishes the slot to the consumer
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    // Waits until every event published before the call is printed
+    public void flush() {
+        long target = tail.get();
+        while (head.get() < target && consumer.isAlive()) {
+            LockSupport.parkNanos(IDLE_NANOS);
+        }
+        out.flush();
+    }
+
+    // Prints the pending events and stops the consumer, later events are dropped
+    @Override
+    public void close() {
+        flush();
+        closed = true;
+        LockSupport.unpark(consumer);
+        try {
+            consumer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void consume() {
+        StringBuilder line = new StringBuilder(256);
+        long reportedDrops = 0;
+        long position = head.get();
+        while (true) {
+            int slot = (int) position & mask;
+            if (sequences.get(slot) != position + 1) {
+                // nothing to print: report drops, flush and wait
+                long drops = dropped.get();
+                if (drops != reportedDrops) {
+                    out.println("... " + (drops - reportedDrops) + " debug events dropped");
+                    reportedDrops = drops;
+                }
+                out.flush();
+                if (closed && tail.get() == position) {
+                    return;
+                }
+                LockSupport.parkNanos(IDLE_NANOS);
+                continue;
+            }
+
+            line.setLength(0);
+            format(line, slot);
+            out.println(line);
+
+            sequences.lazySet(slot, position + mask + 1); // frees the slot for the next round
+            position++;
+            head.lazySet(position);
+        }
+    }
+
+    private void format(StringBuilder line, int slot) {
+        line.append(fes[slot]).append(": ");
+        switch (EVENTS[kinds[slot]]) {
+            case EVALUATION:
+                if (vectorLengths[slot] >= 0) {
+                    appendVector(line.append("x="), slot).append(' ');
+                }
+                line.append("= ").append(values[slot]);
+                return;
+            case NEW_BEST:
+                line.append("new global best ").append(values[slot]);
+                break;
+            case IMPROVED:
+                line.append("improved ").append(values[slot]);
+                break;
+            case RESTART:
+                line.append("restart at ").append(values[slot]);
+                break;
+            case STEP_SIZE:
+                line.append("step size ").append(values[slot]);
+                break;
+        }
+        if (vectorLengths[slot] >= 0) {
+            appendVector(line.append(", x="), slot);
+        }
+    }
+
+    // Same format as Arrays.toString
+    private StringBuilder appendVector(StringBuilder line, int slot) {
+        double[] vector = vectors[slot];
+        int length = vectorLengths[slot];
+        line.append('[');
+        for (int i = 0; i < length; i++) {
+            if (i > 0) {
+                line.append(", ");
+            }
+            line.append(vector[i]);
+        }
+        return line.append(']');
+    }
+}
@@ -0,0 +1,53 @@
+package ec.core;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+// Migration channel of one island: every interval generations the best individual goes to the
+// target islands and immigrants are taken from a lock-free inbox. endGeneration() is for the
+// island's own thread only, emigrate() and poll() are safe from any thread.
+public final class Migration {
+
+    private final int interval;
+    private final ConcurrentLinkedQueue<Solution> inbox = new ConcurrentLinkedQueue<>();
+    private volatile Migration[] targets = new Migration[0];
+    private int generations;
+
+    // Migrates after every interval generations of the island
+    public Migration(int interval) {
+        if (interval <= 0) {
+            throw new IllegalArgumentException("Migration interval must be positive: " + interval);
+        }
+        this.interval = interval;
+    }
+
+    // Islands the emigrants of this island go to
+    public void setTargets(Migration... targets) {
+        this.targets = targets.clone();
+    }
+
+    public int getInterval() {
+        return interval;
+    }
+
+    // Counts a finished generation, true when the island should migrate now
+    public boolean endGeneration() {
+        if (++generations < interval) {
+            return false;
+        }
+        generations = 0;
+        return true;
+    }
+
+    // Sends a copy of x[offset .. offset + n) with its fitness to every target island
+    public void emigrate(double[] x, int offset, int n, double fitness) {
+        for (Migration target : targets) {
+            target.inbox.offer(new Solution(Arrays.copyOfRange(x, offset, offset + n), fitness));
+        }
+    }
+
+    // Next immigrant, null when none is waiting
+    public Solution poll() {
+        return inbox.poll();
+    }
+}
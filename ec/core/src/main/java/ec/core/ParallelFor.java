@@ -0,0 +1,49 @@
+package ec.core;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+// Runs body(i) for every index of [from, to) on a fork/join pool and returns when all are done.
+// The range is split down to single indices, so one index should be expensive work (an individual
+// of a population) and must only touch its own data.
+public final class ParallelFor {
+
+    private ParallelFor() {
+    }
+
+    public static void run(ForkJoinPool pool, int from, int to, IntConsumer body) {
+        if (to - from <= 1 || pool.getParallelism() == 1) {
+            for (int i = from; i < to; i++) {
+                body.accept(i);
+            }
+            return;
+        }
+        pool.invoke(new RangeTask(from, to, body));
+    }
+
+    private static final class RangeTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final IntConsumer body;
+
+        RangeTask(int from, int to, IntConsumer body) {
+            this.from = from;
+            this.to = to;
+            this.body = body;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                body.accept(from);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new RangeTask(from, mid, body), new RangeTask(mid, to, body));
+        }
+    }
+}
@@ -0,0 +1,392 @@
+package ec.core;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+abstract public class Problem {
+
+    protected String name;
+    protected int numberOfDimension;
+    protected double[] upperLimit;
+    protected double[] lowerLimit;
+    protected int maxFes;
+
+    // Evaluation accounting, shared by all threads evaluating this problem
+    private final AtomicInteger currentFes = new AtomicInteger();
+    private final AtomicReference<TerminationReason> terminationReason = new AtomicReference<>();
+    private volatile double targetFitness = Double.NEGATIVE_INFINITY;
+    private final AtomicInteger fesToTarget = new AtomicInteger(-1);
+    private volatile long deadline; // System.nanoTime() value, only used when hasDeadline
+    private volatile boolean hasDeadline;
+
+    // Stagnation detection for restart strategies, off while both limits are 0
+    private volatile int noImprovementLimit;
+    private volatile int collapseLimit;
+    private volatile double stagnationTolerance;
+    private final Object stagnationLock = new Object();
+    private double stageBest;        // guarded by stagnationLock, like the fields below
+    private int lastImprovementFes;
+    private int windowStartFes;
+    private double windowMin;
+    private double windowMax;
+
+    public Problem(String name, int numberOfDimension, int maxFes) {
+        this.name = name;
+        this.numberOfDimension = numberOfDimension;
+        this.maxFes = maxFes;
+        upperLimit = new double[numberOfDimension];
+        lowerLimit = new double[numberOfDimension];
+    }
+
+    // Raw benchmark function of the point x[offset .. offset + numberOfDimension).
+    // Only called through fitnessFunction and evaluateBatch, which do the FE accounting.
+    protected abstract double evaluate(double[] x, int offset);
+
+    // Counts the evaluation against the budget. Once the problem is terminated no more
+    // evaluations are counted and POSITIVE_INFINITY is returned, which no minimizer accepts.
+    public final double fitnessFunction(double[] x) {
+        if (acquire(1) == 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        double fitness = evaluate(x, 0);
+        afterEvaluation(fitness, fitness, 0);
+        return fitness;
+    }
+
+    // Fitness of x with the single coordinate x[index] replaced by value, given fx = f(x).
+    // Separable and chain-structured problems override this with an O(1) update from fx; the
+    // default sets x[index] for a full evaluation and restores it, so x must not be shared with
+    // other threads during the call. Only called through evaluateMove.
+    protected double evaluate(double[] x, double fx, int index, double value) {
+        double old = x[index];
+        x[index] = value;
+        try {
+            return evaluate(x, 0);
+        } finally {
+            x[index] = old;
+        }
+    }
+
+    // Single-coordinate move from x (whose fitness is fx) to x[index] = value, counted as one
+    // evaluation like fitnessFunction. x is left unchanged. The result is an update of fx, so it can
+    // differ from fitnessFunction of the moved point in the last bits.
+    public final double evaluateMove(double[] x, double fx, int index, double value) {
+        if (acquire(1) == 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        double fitness = evaluate(x, fx, index, value);
+        afterEvaluation(fitness, fitness, 0);
+        return fitness;
+    }
+
+    // Makes a move evaluated by evaluateMove: sets x[index] = value and returns the exact fitness
+    // of the new x. Not counted, the point was counted by evaluateMove. Taking the next moves from
+    // this exact value keeps the rounding of the O(1) updates from piling up along a search path.
+    public final double applyMove(double[] x, int index, double value) {
+        x[index] = value;
+        return evaluateUncounted(x);
+    }
+
+    // Exact fitness for applyMove, which is not counted; CachedProblem evaluates past its cache
+    double evaluateUncounted(double[] x) {
+        return evaluate(x, 0);
+    }
+
+    // Boxed adapter kept for older callers, prefer the primitive version in hot loops
+    public final double fitnessFunction(Double[] x) {
+        return fitnessFunction(Solution.toPrimitive(x));
+    }
+
+    // Evaluates fitness.length rows of a flat row-major population (row i starts at i * numberOfDimension).
+    // The whole batch is reserved at once; rows past the remaining budget get POSITIVE_INFINITY.
+    // Safe to call from several threads on disjoint arrays.
+    public final void evaluateBatch(double[] population, double[] fitness) {
+        int granted = acquire(fitness.length);
+        double best = Double.POSITIVE_INFINITY;
+        double worst = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < granted; i++) {
+            fitness[i] = evaluate(population, i * numberOfDimension);
+            best = Math.min(best, fitness[i]);
+            worst = Math.max(worst, fitness[i]);
+        }
+        for (int i = granted; i < fitness.length; i++) {
+            fitness[i] = Double.POSITIVE_INFINITY;
+        }
+        if (granted > 0) {
+            afterEvaluation(best, worst, rowsAfterTarget(fitness, granted, best));
+        }
+    }
+
+    // Same as evaluateBatch(population, fitness), with the rows evaluated in parallel on pool.
+    // The budget is reserved for the whole batch before the rows are handed out, so which rows
+    // are evaluated does not depend on scheduling. A null pool evaluates sequentially.
+    public final void evaluateBatch(double[] population, double[] fitness, ForkJoinPool pool) {
+        if (pool == null) {
+            evaluateBatch(population, fitness);
+            return;
+        }
+        int granted = acquire(fitness.length);
+        ParallelFor.run(pool, 0, granted, i -> fitness[i] = evaluate(population, i * numberOfDimension));
+        double best = Double.POSITIVE_INFINITY;
+        double worst = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < granted; i++) {
+            best = Math.min(best, fitness[i]);
+            worst = Math.max(worst, fitness[i]);
+        }
+        for (int i = granted; i < fitness.length; i++) {
+            fitness[i] = Double.POSITIVE_INFINITY;
+        }
+        if (granted > 0) {
+            afterEvaluation(best, worst, rowsAfterTarget(fitness, granted, best));
+        }
+    }
+
+    // Number of evaluated rows of a batch after its first one at or below the target, which
+    // dates the target to that row in getFesToTarget; 0 while the target is not reached
+    private int rowsAfterTarget(double[] fitness, int granted, double bestFitness) {
+        double target = targetFitness;
+        if (bestFitness > target) {
+            return 0;
+        }
+        int first = 0;
+        while (fitness[first] > target) {
+            first++;
+        }
+        return granted - 1 - first;
+    }
+
+    // Reserves up to count evaluations, returns how many were granted
+    private int acquire(int count) {
+        if (isTerminated()) {
+            return 0;
+        }
+        while (true) {
+            int used = currentFes.get();
+            int granted = Math.min(count, maxFes - used);
+            if (granted <= 0) {
+                terminate(TerminationReason.BUDGET);
+                return 0;
+            }
+            if (currentFes.compareAndSet(used, used + granted)) {
+                return granted;
+            }
+        }
+    }
+
+    // bestFitness and worstFitness of the evaluations just counted, laterFes of which came after
+    // the first one that reached the target
+    private void afterEvaluation(double bestFitness, double worstFitness, int laterFes) {
+        if (bestFitness <= targetFitness) {
+            fesToTarget.compareAndSet(-1, currentFes.get() - laterFes);
+            terminate(TerminationReason.TARGET);
+        } else if (currentFes.get() >= maxFes) {
+            terminate(TerminationReason.BUDGET);
+        } else if (noImprovementLimit > 0 || collapseLimit > 0) {
+            checkStagnation(bestFitness, worstFitness);
+        }
+    }
+
+    private void checkStagnation(double bestFitness, double worstFitness) {
+        synchronized (stagnationLock) {
+            int fes = currentFes.get();
+            if (bestFitness < stageBest - stagnationTolerance) {
+                lastImprovementFes = fes;
+            }
+            stageBest = Math.min(stageBest, bestFitness);
+            windowMin = Math.min(windowMin, bestFitness);
+            windowMax = Math.max(windowMax, worstFitness);
+
+            if (noImprovementLimit > 0 && fes - lastImprovementFes >= noImprovementLimit) {
+                terminate(TerminationReason.STAGNATION);
+            } else if (collapseLimit > 0 && fes - windowStartFes >= collapseLimit) {
+                if (windowMax - windowMin <= stagnationTolerance) {
+                    terminate(TerminationReason.STAGNATION);
+                }
+                windowStartFes = fes;
+                windowMin = Double.POSITIVE_INFINITY;
+                windowMax = Double.NEGATIVE_INFINITY;
+            }
+        }
+    }
+
+    // Turns on stagnation detection for restart strategies: the problem terminates with STAGNATION
+    // once noImprovementFes evaluations have not improved the best fitness of the current stage
+    // by more than tolerance, or when all evaluations of a collapseFes window lie within tolerance
+    // of each other (the population has collapsed). 0 turns a test off. A stage starts here and
+    // at every resume().
+    public void setStagnationLimit(int noImprovementFes, int collapseFes, double tolerance) {
+        synchronized (stagnationLock) {
+            stagnationTolerance = tolerance;
+            noImprovementLimit = noImprovementFes;
+            collapseLimit = collapseFes;
+            startStage();
+        }
+    }
+
+    // Ends the current stage as STAGNATION if stagnation detection is on, for algorithms with
+    // their own convergence tests; returns false and does nothing when it is off
+    public boolean signalStagnation() {
+        if (noImprovementLimit == 0 && collapseLimit == 0) {
+            return false;
+        }
+        terminate(TerminationReason.STAGNATION);
+        return true;
+    }
+
+    // Accepts evaluations again after a STAGNATION termination and starts a new stage; the
+    // evaluations spent so far stay counted. Returns false if the problem stays terminated.
+    public boolean resume() {
+        synchronized (stagnationLock) {
+            terminationReason.compareAndSet(TerminationReason.STAGNATION, null);
+            startStage();
+        }
+        return !isTerminated();
+    }
+
+    private void startStage() {
+        stageBest = Double.POSITIVE_INFINITY;
+        lastImprovementFes = currentFes.get();
+        windowStartFes = lastImprovementFes;
+        windowMin = Double.POSITIVE_INFINITY;
+        windowMax = Double.NEGATIVE_INFINITY;
+    }
+
+    // Gives back count evaluations that were reserved but cost no real evaluation (CachedProblem
+    // hits that are not counted)
+    void refund(int count) {
+        currentFes.addAndGet(-count);
+    }
+
+    // The first reason wins, later ones are ignored
+    private void terminate(TerminationReason reason) {
+        terminationReason.compareAndSet(null, reason);
+    }
+
+    // True once the budget is spent, the target was reached, the time limit ran out or a
+    // restart strategy's stage stagnated
+    public boolean isTerminated() {
+        if (terminationReason.get() != null) {
+            return true;
+        }
+        if (currentFes.get() >= maxFes) {
+            terminate(TerminationReason.BUDGET);
+            return true;
+        }
+        if (hasDeadline && System.nanoTime() - deadline >= 0) {
+            terminate(TerminationReason.TIME);
+            return true;
+        }
+        return false;
+    }
+
+    // null while the problem still accepts evaluations
+    public TerminationReason getTerminationReason() {
+        isTerminated();
+        return terminationReason.get();
+    }
+
+    // Stop as soon as an evaluation is less than or equal to targetFitness
+    public void setTargetFitness(double targetFitness) {
+        this.targetFitness = targetFitness;
+    }
+
+    public double getTargetFitness() {
+        return targetFitness;
+    }
+
+    // Stop as soon as an evaluation is within precision of the known optimum, at or below
+    // getOptimumFitness() + precision
+    public void setTargetPrecision(double precision) {
+        if (!(precision >= 0)) {
+            throw new IllegalArgumentException("Precision must be non-negative: " + precision);
+        }
+        double optimum = getOptimumFitness();
+        if (Double.isNaN(optimum)) {
+            throw new IllegalStateException(name + " has no known optimum for " + numberOfDimension + " dimensions");
+        }
+        setTargetFitness(optimum + precision);
+    }
+
+    // Evaluations counted when the target fitness was first reached, -1 if it was not. Exact when
+    // one thread evaluates; with concurrent batches it includes the evaluations reserved by others.
+    public int getFesToTarget() {
+        return fesToTarget.get();
+    }
+
+    // Known global minimum of the function, NaN when it is not known (the default)
+    public double getOptimumFitness() {
+        return Double.NaN;
+    }
+
+    // A global minimizer (a new array), null when it is not known (the default). For functions
+    // with several minimizers any one of them.
+    public double[] getOptimumPosition() {
+        return null;
+    }
+
+    // Stop after the given wall-clock time, counted from this call
+    public void setTimeLimit(long time, TimeUnit unit) {
+        deadline = System.nanoTime() + unit.toNanos(time);
+        hasDeadline = true;
+    }
+
+    // Clears the counter, the termination state and getFesToTarget so the instance can be reused,
+    // the target and time limit settings are kept (the time limit is not restarted)
+    public void reset() {
+        currentFes.set(0);
+        terminationReason.set(null);
+        fesToTarget.set(-1);
+        synchronized (stagnationLock) {
+            startStage();
+        }
+    }
+
+    public Solution generateRandomSolution(Rng rng) {
+        double[] newX = new double[numberOfDimension];
+
+        // Generate a random solution within the specified limits
+        for (int i = 0; i < numberOfDimension; i++) {
+            // Generate a random value between the lower and upper bounds
+            newX[i] = lowerLimit[i] + (upperLimit[i] - lowerLimit[i]) * rng.nextDouble();
+        }
+
+        // Calculate fitness based on the generated random solution
+        double fitness = fitnessFunction(newX);
+        return new Solution(newX, fitness);
+    }
+
+    public int getCurrentFes() {
+        return currentFes.get();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getNumberOfDimension() {
+        return numberOfDimension;
+    }
+
+    // Primitive limits, shared with the problem (do not modify)
+    public double[] getUpperBounds() {
+        return upperLimit;
+    }
+
+    public double[] getLowerBounds() {
+        return lowerLimit;
+    }
+
+    public Double[] getUpperLimit() {
+        return Solution.toBoxed(upperLimit);
+    }
+
+    public Double[] getLowerLimit() {
+        return Solution.toBoxed(lowerLimit);
+    }
+
+    public int getMaxFes() {
+        return maxFes;
+    }
+}
@@ -0,0 +1,8 @@
+package ec.core;
+
+// Creates a problem of the given dimension and budget, the constructor of every benchmark
+// function fits (Sphere::new)
+@FunctionalInterface
+public interface ProblemFactory {
+    Problem create(int dimensions, int maxFes);
+}
@@ -0,0 +1,125 @@
+package ec.core;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.function.Supplier;
+
+// Problems and algorithms by name, from every RegistryProvider on the class path (the built-in
+// ones also without their services files). Loaded once, then read-only and thread-safe; creating
+// an instance calls a cached factory, no reflection.
+public final class Registry {
+
+    // Providers of ec-core and ec-algorithms, registered directly when ServiceLoader does not find
+    // them (classes compiled without their META-INF/services resources)
+    private static final String[] BUILT_IN_PROVIDERS = {
+            "ec.problems.BenchmarkProblems",
+            "ec.algorithms.StandardAlgorithms"
+    };
+
+    private final Map<String, ProblemFactory> problems = new LinkedHashMap<>();
+    private final Map<String, Supplier<? extends Algorithm>> algorithms = new LinkedHashMap<>();
+    private boolean loaded;
+
+    private Registry() {
+    }
+
+    // Loaded on first use from the class loader of ec-core
+    private static final class DefaultHolder {
+        static final Registry INSTANCE = load(Registry.class.getClassLoader());
+    }
+
+    // Registry of the providers visible from the class path
+    public static Registry getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    // A new registry of the providers visible from loader, for plugins in their own class loader.
+    // A built-in provider missing from the services files is still registered if its class is there.
+    public static Registry load(ClassLoader loader) {
+        Registry registry = new Registry();
+        Set<String> found = new HashSet<>();
+        for (RegistryProvider provider : ServiceLoader.load(RegistryProvider.class, loader)) {
+            provider.register(registry);
+            found.add(provider.getClass().getName());
+        }
+        for (String name : BUILT_IN_PROVIDERS) {
+            if (!found.contains(name)) {
+                RegistryProvider provider = builtInProvider(name, loader);
+                if (provider != null) {
+                    provider.register(registry);
+                }
+            }
+        }
+        registry.loaded = true;
+        return registry;
+    }
+
+    // null when the module of the provider is not on the class path
+    private static RegistryProvider builtInProvider(String name, ClassLoader loader) {
+        Class<? extends RegistryProvider> type;
+        try {
+            type = Class.forName(name, true, loader).asSubclass(RegistryProvider.class);
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+        try {
+            return type.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Can't create registry provider " + name, e);
+        }
+    }
+
+    // Only while the providers register; a name can be registered once
+    public void addProblem(String name, ProblemFactory factory) {
+        checkLoading(name, problems);
+        problems.put(name, factory);
+    }
+
+    public void addAlgorithm(String name, Supplier<? extends Algorithm> factory) {
+        checkLoading(name, algorithms);
+        algorithms.put(name, factory);
+    }
+
+    private void checkLoading(String name, Map<String, ?> names) {
+        if (loaded) {
+            throw new IllegalStateException("Registry is already loaded, register " + name + " in a RegistryProvider");
+        }
+        if (names.containsKey(name)) {
+            throw new IllegalStateException(name + " is registered twice");
+        }
+    }
+
+    // null for an unknown name
+    public ProblemFactory getProblemFactory(String name) {
+        return problems.get(name);
+    }
+
+    // null for an unknown name
+    public Problem createProblem(String name, int dimensions, int maxFes) {
+        ProblemFactory factory = problems.get(name);
+        return factory == null ? null : factory.create(dimensions, maxFes);
+    }
+
+    // null for an unknown name
+    public Supplier<? extends Algorithm> getAlgorithmFactory(String name) {
+        return algorithms.get(name);
+    }
+
+    // A new instance with the default parameters, null for an unknown name
+    public Algorithm createAlgorithm(String name) {
+        Supplier<? extends Algorithm> factory = algorithms.get(name);
+        return factory == null ? null : factory.get();
+    }
+
+    public Set<String> getProblemNames() {
+        return Collections.unmodifiableSet(problems.keySet());
+    }
+
+    public Set<String> getAlgorithmNames() {
+        return Collections.unmodifiableSet(algorithms.keySet());
+    }
+}
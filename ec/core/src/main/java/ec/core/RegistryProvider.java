@@ -0,0 +1,9 @@
+package ec.core;
+
+// Service of the Registry: an implementation listed in META-INF/services/ec.core.RegistryProvider
+// adds its problems and algorithms, so new ones need no change to the runners.
+public interface RegistryProvider {
+
+    // Adds the problems and algorithms of this provider, called once per loaded registry
+    void register(Registry registry);
+}
@@ -0,0 +1,72 @@
+package ec.core;
+
+import java.util.SplittableRandom;
+
+// Random number source of one run, built on SplittableRandom. Not thread-safe: every run or
+// thread gets its own, from a seed (same seed, same numbers) or with split().
+public final class Rng {
+
+    private final SplittableRandom random;
+    private double nextGaussian;
+    private boolean hasNextGaussian;
+
+    public Rng(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    // Unseeded, for one-off runs that don't need to be replayed
+    public Rng() {
+        this.random = new SplittableRandom();
+    }
+
+    private Rng(SplittableRandom random) {
+        this.random = random;
+    }
+
+    // Uniform in [0, 1)
+    public double nextDouble() {
+        return random.nextDouble();
+    }
+
+    // Uniform in [origin, bound)
+    public double nextDouble(double origin, double bound) {
+        return random.nextDouble(origin, bound);
+    }
+
+    // Uniform in [0, bound)
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    public long nextLong() {
+        return random.nextLong();
+    }
+
+    // Standard normal, Marsaglia's polar method (pairs of values, like java.util.Random)
+    public double nextGaussian() {
+        if (hasNextGaussian) {
+            hasNextGaussian = false;
+            return nextGaussian;
+        }
+        double v1, v2, s;
+        do {
+            v1 = 2 * random.nextDouble() - 1;
+            v2 = 2 * random.nextDouble() - 1;
+            s = v1 * v1 + v2 * v2;
+        } while (s >= 1 || s == 0);
+        double multiplier = Math.sqrt(-2 * Math.log(s) / s);
+        nextGaussian = v2 * multiplier;
+        hasNextGaussian = true;
+        return v1 * multiplier;
+    }
+
+    // Cauchy distribution with the given location and scale
+    public double nextCauchy(double location, double scale) {
+        return location + scale * Math.tan(Math.PI * (random.nextDouble() - 0.5));
+    }
+
+    // Independent stream for another thread or sub-run, the parent stays usable
+    public Rng split() {
+        return new Rng(random.split());
+    }
+}
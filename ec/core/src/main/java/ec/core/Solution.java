@@ -0,0 +1,121 @@
+package ec.core;
+
+import java.util.Arrays;
+
+public class Solution {
+
+    private double[] x;          // Current position
+    private double[] pBest;      // Personal best position
+    private double fitness;      // Current fitness
+    private double pBestFitness; // Fitness of the personal best position
+
+    // Copy constructor
+    public Solution(Solution second) {
+        if (second.x != null) {
+            this.x = Arrays.copyOf(second.x, second.x.length);
+        } else {
+            this.x = null;
+        }
+        if (second.pBest != null) {
+            this.pBest = Arrays.copyOf(second.pBest, second.pBest.length);
+        } else {
+            this.pBest = null;
+        }
+        this.fitness = second.fitness;
+        this.pBestFitness = second.pBestFitness;
+    }
+
+    // Constructor for a new solution
+    public Solution(double[] newX, double fitness) {
+        this.x = newX;
+        this.fitness = fitness;
+        this.pBest = Arrays.copyOf(newX, newX.length); // Initialize pBest with current position
+        this.pBestFitness = fitness;                  // Initialize pBestFitness with current fitness
+    }
+
+    // Boxed adapter for the constructor above
+    public Solution(Double[] newX, double fitness) {
+        this(toPrimitive(newX), fitness);
+    }
+
+    // Getter for current position (no copy)
+    public double[] getPosition() {
+        return x;
+    }
+
+    // Boxed copy of the current position
+    public Double[] getX() {
+        return toBoxed(x);
+    }
+
+    // Getter for current fitness
+    public double getFitness() {
+        return fitness;
+    }
+
+    // Getter for personal best position (no copy)
+    public double[] getPBestPosition() {
+        return pBest;
+    }
+
+    // Boxed copy of the personal best position
+    public Double[] getPBest() {
+        return toBoxed(pBest);
+    }
+
+    // Getter for fitness of the personal best position
+    public double getPBestFitness() {
+        return pBestFitness;
+    }
+
+    // Method to update the current position and fitness
+    public void updatePosition(double[] newX, double newFitness) {
+        this.x = newX;
+        this.fitness = newFitness;
+
+        // Update pBest if the new fitness is better
+        if (newFitness < pBestFitness) {
+            this.pBest = Arrays.copyOf(newX, newX.length);
+            this.pBestFitness = newFitness;
+        }
+    }
+
+    // Copies row offset..offset+D of source into the current position (and the personal best
+    // if it improves) instead of keeping a reference, so an update allocates nothing
+    public void updatePosition(double[] source, int offset, double newFitness) {
+        System.arraycopy(source, offset, x, 0, x.length);
+        this.fitness = newFitness;
+
+        if (newFitness < pBestFitness) {
+            System.arraycopy(source, offset, pBest, 0, pBest.length);
+            this.pBestFitness = newFitness;
+        }
+    }
+
+    // Boxed adapter for updatePosition
+    public void updatePosition(Double[] newX, double newFitness) {
+        updatePosition(toPrimitive(newX), newFitness);
+    }
+
+    public static double[] toPrimitive(Double[] array) {
+        if (array == null) {
+            return null;
+        }
+        double[] result = new double[array.length];
+        for (int i = 0; i < array.length; i++) {
+            result[i] = array[i];
+        }
+        return result;
+    }
+
+    public static Double[] toBoxed(double[] array) {
+        if (array == null) {
+            return null;
+        }
+        Double[] result = new Double[array.length];
+        for (int i = 0; i < array.length; i++) {
+            result[i] = array[i];
+        }
+        return result;
+    }
+}
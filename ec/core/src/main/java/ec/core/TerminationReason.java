@@ -0,0 +1,9 @@
+package ec.core;
+
+// Why a Problem stopped accepting evaluations
+public enum TerminationReason {
+    BUDGET, // maxFes evaluations were spent
+    TARGET, // an evaluation reached the target fitness
+    TIME,       // the time limit ran out
+    STAGNATION  // the search stagnated while a restart strategy runs it, see Problem.resume()
+}
@@ -1,3 +1,7 @@
+package ec.problems;
+
+import ec.core.Problem;
+
 public class Ackley extends Problem {
     private static final double A = 20.0;
     private static final double B = 0.2;
@@ -6,8 +10,8 @@ public class Ackley extends Problem {
     public Ackley(int numberOfDimension, int maxFes) {
         super("Ackley", numberOfDimension, maxFes);
 
-        upperLimit = new Double[numberOfDimension];
-        lowerLimit = new Double[numberOfDimension];
+        upperLimit = new double[numberOfDimension];
+        lowerLimit = new double[numberOfDimension];
 
         for (int i = 0; i < numberOfDimension; i++) {
             lowerLimit[i] = -32.768;
@@ -16,12 +20,12 @@ public class Ackley extends Problem {
     }
 
     @Override
-    public double fitnessFunction(Double[] x) {
+    protected double evaluate(double[] x, int offset) {
         double sum1 = 0.0;
         double sum2 = 0.0;
         int n = numberOfDimension;
 
-        for (int i = 0; i < n; i++) {
+        for (int i = offset; i < offset + n; i++) {
             sum1 += x[i] * x[i];
             sum2 += Math.cos(C * x[i]);
         }
@@ -29,9 +33,16 @@ public class Ackley extends Problem {
         double term1 = -A * Math.exp(-B * Math.sqrt(sum1 / n));
         double term2 = -Math.exp(sum2 / n);
         
-        double fitness = term1 + term2 + A + Math.exp(1);
+        return term1 + term2 + A + Math.exp(1);
+    }
 
-        currentFes++;
-        return fitness;
+    @Override
+    public double getOptimumFitness() {
+        return 0.0;
+    }
+
+    @Override
+    public double[] getOptimumPosition() {
+        return new double[numberOfDimension];
     }
 }
@@ -0,0 +1,24 @@
+package ec.problems;
+
+import ec.core.Registry;
+import ec.core.RegistryProvider;
+
+// Registers the benchmark functions of this package under the names used by the task runners
+public final class BenchmarkProblems implements RegistryProvider {
+
+    @Override
+    public void register(Registry registry) {
+        registry.addProblem("Ackley", Ackley::new);
+        registry.addProblem("Bukin", Bukin::new);
+        registry.addProblem("CarromTable", CarromTable::new);
+        registry.addProblem("Griewank", Griewank::new);
+        registry.addProblem("Levy", Levy::new);
+        registry.addProblem("Michalewicz", Michalewicz::new);
+        registry.addProblem("Rastrigin", Rastrigin::new);
+        registry.addProblem("Rosenbrock", Rosenbrock::new);
+        registry.addProblem("Schwefel", Schwefel::new);
+        registry.addProblem("Sphere", Sphere::new);
+        registry.addProblem("StyblinskiTang", StyblinskiTang::new);
+        registry.addProblem("Trid", Trid::new);
+    }
+}
@@ -1,3 +1,7 @@
+package ec.problems;
+
+import ec.core.Problem;
+
 public class Bukin extends Problem {
 
     public Bukin(int numberOfDimensions, int maxFes) {
@@ -8,20 +12,29 @@ public class Bukin extends Problem {
         }
 
         // Define the problem's specific limits
-        lowerLimit = new Double[] {-15.0, -3.0};
-        upperLimit = new Double[] {-5.0, 3.0};
+        lowerLimit = new double[] {-15.0, -3.0};
+        upperLimit = new double[] {-5.0, 3.0};
     }
 
     @Override
-    public double fitnessFunction(Double[] x) {
+    protected double evaluate(double[] x, int offset) {
 
-        double x1 = x[0];
-        double x2 = x[1];
+        double x1 = x[offset];
+        double x2 = x[offset + 1];
         
         double term1 = 100 * Math.sqrt(Math.abs(x2 - 0.01 * x1 * x1));
         double term2 = 0.01 * Math.abs(x1 + 10);
         
-        currentFes++;
         return term1 + term2;
     }
+
+    @Override
+    public double getOptimumFitness() {
+        return 0.0;
+    }
+
+    @Override
+    public double[] getOptimumPosition() {
+        return new double[] {-10.0, 1.0};
+    }
 }
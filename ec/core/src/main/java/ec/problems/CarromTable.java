@@ -1,10 +1,14 @@
+package ec.problems;
+
+import ec.core.Problem;
+
 public class CarromTable extends Problem {
 
     public CarromTable(int numberOfDimensions, int maxFes) {
         super("CarromTable", numberOfDimensions, maxFes);
 
-        upperLimit = new Double[numberOfDimensions];
-        lowerLimit = new Double[numberOfDimensions];
+        upperLimit = new double[numberOfDimensions];
+        lowerLimit = new double[numberOfDimensions];
 
         for (int i = 0; i < numberOfDimensions; i++) {
             lowerLimit[i] = -10.0;
@@ -13,9 +17,9 @@ public class CarromTable extends Problem {
     }
 
     @Override
-    public double fitnessFunction(Double[] x) {
-        double x1 = x[0];
-        double x2 = x[1];
+    protected double evaluate(double[] x, int offset) {
+        double x1 = x[offset];
+        double x2 = x[offset + 1];
 
         double distance = Math.sqrt(x1 * x1 + x2 * x2);
 
@@ -25,8 +29,20 @@ public class CarromTable extends Problem {
 
         double result = -(1.0 / 30) * Math.exp(2 * absPart) * cosSquaredX1 * cosSquaredX2;
 
-        currentFes++;
         return result;
     }
-    
+
+    // One of the four minimizers (+-9.6462, +-9.6461); only the first two coordinates count
+    @Override
+    public double getOptimumFitness() {
+        return -24.15681551650653;
+    }
+
+    @Override
+    public double[] getOptimumPosition() {
+        double[] x = new double[numberOfDimension];
+        x[0] = 9.646157266348881;
+        x[1] = 9.646134286497169;
+        return x;
+    }
 }
@@ -0,0 +1,49 @@
+package ec.problems;
+
+import ec.core.Problem;
+
+public class Griewank extends Problem {
+
+    protected final double[] sqrtIndex; // sqrt(i + 1), the divisor of coordinate i
+
+    public Griewank(int numberOfDimension, int maxFes) {
+        super("Griewank", numberOfDimension, maxFes);
+
+        upperLimit = new double[numberOfDimension];
+        lowerLimit = new double[numberOfDimension];
+
+        for (int i = 0; i < numberOfDimension; i++) {
+            lowerLimit[i] = -600.0;
+            upperLimit[i] = 600.0;
+        }
+
+        sqrtIndex = new double[numberOfDimension];
+        for (int i = 0; i < numberOfDimension; i++) {
+            sqrtIndex[i] = Math.sqrt(i + 1);
+        }
+    }
+
+    @Override
+    protected double evaluate(double[] x, int offset) {
+        double sum = 0.0;
+        double product = 1.0;
+
+        for (int i = 0; i < numberOfDimension; i++) {
+            double xi = x[offset + i];
+            sum += (xi * xi) / 4000.0;
+            product *= Math.cos(xi / sqrtIndex[i]);
+        }
+
+        return sum - product + 1.0;
+    }
+
+    @Override
+    public double getOptimumFitness() {
+        return 0.0;
+    }
+
+    @Override
+    public double[] getOptimumPosition() {
+        return new double[numberOfDimension];
+    }
+}
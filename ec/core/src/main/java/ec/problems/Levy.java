@@ -0,0 +1,79 @@
+package ec.problems;
+
+import java.util.Arrays;
+
+import ec.core.Problem;
+
+public class Levy extends Problem {
+
+    public Levy(int numberOfDimensions, int maxFes) {
+        super("Levy", numberOfDimensions, maxFes);
+
+        upperLimit = new double[numberOfDimensions];
+        lowerLimit = new double[numberOfDimensions];
+
+        for (int i = 0; i < numberOfDimensions; i++) {
+            lowerLimit[i] = -10.0;
+            upperLimit[i] = 10.0;
+        }
+    }
+
+    @Override
+    protected double evaluate(double[] x, int offset) {
+        int d = numberOfDimension;
+
+        double w0 = 1 + (x[offset] - 1) / 4;
+        double sin0 = Math.sin(Math.PI * w0);
+        double term1 = sin0 * sin0;
+
+        double wLast = 1 + (x[offset + d - 1] - 1) / 4;
+        double sinLast = Math.sin(2 * Math.PI * wLast);
+        double term3 = (wLast - 1) * (wLast - 1) * (1 + sinLast * sinLast);
+
+        double sum = 0.0;
+        for (int i = 0; i < d - 1; i++) {
+            double wi = 1 + (x[offset + i] - 1) / 4;
+            double sinI = Math.sin(Math.PI * wi + 1);
+            sum += (wi - 1) * (wi - 1) * (1 + 10 * (sinI * sinI));
+        }
+
+        return term1 + sum + term3;
+    }
+
+    // Separable in w: coordinate i only changes its own summand, plus the first or last term
+    @Override
+    protected double evaluate(double[] x, double fx, int index, double value) {
+        return fx + (part(index, value) - part(index, x[index]));
+    }
+
+    // Everything coordinate i contributes to the sum in evaluate
+    private double part(int i, double xi) {
+        double wi = 1 + (xi - 1) / 4;
+        double part = 0.0;
+        if (i == 0) {
+            double sin0 = Math.sin(Math.PI * wi);
+            part += sin0 * sin0;
+        }
+        if (i < numberOfDimension - 1) {
+            double sinI = Math.sin(Math.PI * wi + 1);
+            part += (wi - 1) * (wi - 1) * (1 + 10 * (sinI * sinI));
+        }
+        if (i == numberOfDimension - 1) {
+            double sinLast = Math.sin(2 * Math.PI * wi);
+            part += (wi - 1) * (wi - 1) * (1 + sinLast * sinLast);
+        }
+        return part;
+    }
+
+    @Override
+    public double getOptimumFitness() {
+        return 0.0;
+    }
+
+    @Override
+    public double[] getOptimumPosition() {
+        double[] x = new double[numberOfDimension];
+        Arrays.fill(x, 1.0);
+        return x;
+    }
+}
@@ -0,0 +1,119 @@
+package ec.problems;
+
+import ec.core.Problem;
+
+public class Michalewicz extends Problem {
+
+    // Known optimum, computed on first use by optimum()
+    private double[] optimumPosition;
+    private double optimumFitness;
+
+    public Michalewicz(int numberOfDimensions, int maxFes) {
+        super("Michalewicz", numberOfDimensions, maxFes);
+
+        upperLimit = new double[numberOfDimensions];
+        lowerLimit = new double[numberOfDimensions];
+
+        for (int i = 0; i < numberOfDimensions; i++) {
+            lowerLimit[i] = 0.0;
+            upperLimit[i] = Math.PI;
+        }
+    }
+
+    @Override
+    protected double evaluate(double[] x, int offset) {
+        double sum = 0.0;
+        int d = numberOfDimension;
+
+        for (int i = 0; i < d; i++) {
+            sum += term(i, x[offset + i]);
+        }
+
+        return -sum;
+    }
+
+    // Separable: only the term of the moved coordinate changes
+    @Override
+    protected double evaluate(double[] x, double fx, int index, double value) {
+        return fx - (term(index, value) - term(index, x[index]));
+    }
+
+    // Separable: every coordinate maximizes its own term, so the optimum is known for any D
+    @Override
+    public double getOptimumFitness() {
+        optimum();
+        return optimumFitness;
+    }
+
+    @Override
+    public double[] getOptimumPosition() {
+        return optimum().clone();
+    }
+
+    private synchronized double[] optimum() {
+        if (optimumPosition == null) {
+            double[] x = new double[numberOfDimension];
+            double sum = 0.0;
+            for (int i = 0; i < numberOfDimension; i++) {
+                x[i] = maximizeTerm(i);
+                sum += term(i, x[i]);
+            }
+            optimumFitness = -sum;
+            optimumPosition = x;
+        }
+        return optimumPosition;
+    }
+
+    // Maximizer of term(i, .) on [0, pi]. sin^20 peaks where (i + 1) x^2 / pi = (k + 1/2) pi, and
+    // weighted by sin(x) the highest peak is one of those closest to pi / 2. Every peak is
+    // unimodal between the zeros around it, where a golden-section search finds its top.
+    private static double maximizeTerm(int i) {
+        int center = (int) Math.round((i + 1) / 4.0 - 0.5); // peak at pi / 2
+        double bestX = Math.PI / 2;
+        double best = Double.NEGATIVE_INFINITY;
+        for (int k = Math.max(0, center - 3); k <= Math.min(i, center + 3); k++) {
+            double a = Math.PI * Math.sqrt(k / (i + 1.0));
+            double b = Math.min(Math.PI, Math.PI * Math.sqrt((k + 1) / (i + 1.0)));
+            double x = goldenSection(i, a, b);
+            double value = term(i, x);
+            if (value > best) {
+                best = value;
+                bestX = x;
+            }
+        }
+        return bestX;
+    }
+
+    private static double goldenSection(int i, double a, double b) {
+        double ratio = (Math.sqrt(5.0) - 1) / 2;
+        double c = b - ratio * (b - a);
+        double d = a + ratio * (b - a);
+        double fc = term(i, c);
+        double fd = term(i, d);
+        for (int iteration = 0; iteration < 80; iteration++) { // 0.618^80 < 1e-16
+            if (fc > fd) {
+                b = d;
+                d = c;
+                fd = fc;
+                c = b - ratio * (b - a);
+                fc = term(i, c);
+            } else {
+                a = c;
+                c = d;
+                fc = fd;
+                d = a + ratio * (b - a);
+                fd = term(i, d);
+            }
+        }
+        return (a + b) / 2;
+    }
+
+    private static double term(int i, double xi) {
+        // sin^20 by squaring, Math.pow is several times slower
+        double s = Math.sin((i + 1) * (xi * xi) / Math.PI);
+        double s2 = s * s;
+        double s5 = s2 * s2 * s;
+        double s10 = s5 * s5;
+        return Math.sin(xi) * (s10 * s10);
+    }
+}
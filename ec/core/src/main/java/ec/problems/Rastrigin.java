@@ -0,0 +1,49 @@
+package ec.problems;
+
+import ec.core.Problem;
+
+public class Rastrigin extends Problem {
+
+    public Rastrigin(int numberOfDimension, int maxFes) {
+        super("Rastrigin", numberOfDimension, maxFes);
+       
+        upperLimit = new double[numberOfDimension];
+        lowerLimit = new double[numberOfDimension];
+
+        for (int i = 0; i < numberOfDimension; i++) {
+            lowerLimit[i] = -5.12; 
+            upperLimit[i] = 5.12;
+        }
+    }
+
+    @Override
+    protected double evaluate(double[] x, int offset) {
+        double sum = 0.0;
+
+        for (int i = offset; i < offset + numberOfDimension; i++) {
+            sum += term(x[i]);
+        }
+
+        return 10 * numberOfDimension + sum;
+    }
+
+    // Separable: only the term of the moved coordinate changes
+    @Override
+    protected double evaluate(double[] x, double fx, int index, double value) {
+        return fx + (term(value) - term(x[index]));
+    }
+
+    private static double term(double xi) {
+        return xi * xi - 10 * Math.cos(2 * Math.PI * xi);
+    }
+
+    @Override
+    public double getOptimumFitness() {
+        return 0.0;
+    }
+
+    @Override
+    public double[] getOptimumPosition() {
+        return new double[numberOfDimension];
+    }
+}
@@ -0,0 +1,62 @@
+package ec.problems;
+
+import java.util.Arrays;
+
+import ec.core.Problem;
+
+public class Rosenbrock extends Problem {
+
+    public Rosenbrock(int numberOfDimension, int maxFes) {
+        super("Rosenbrock", numberOfDimension, maxFes);
+
+        upperLimit = new double[numberOfDimension];
+        lowerLimit = new double[numberOfDimension];
+
+        for (int i = 0; i < numberOfDimension; i++) {
+            lowerLimit[i] = -5.0;
+            upperLimit[i] = 10.0; 
+        }
+    }
+
+    @Override
+    protected double evaluate(double[] x, int offset) {
+        double sum = 0.0;
+
+        for (int i = offset; i < offset + numberOfDimension - 1; i++) {
+            sum += term(x[i], x[i + 1]);
+        }
+
+        return sum;
+    }
+
+    // Chain: coordinate i only appears in the terms (i - 1, i) and (i, i + 1)
+    @Override
+    protected double evaluate(double[] x, double fx, int index, double value) {
+        double old = x[index];
+        double delta = 0.0;
+        if (index > 0) {
+            delta += term(x[index - 1], value) - term(x[index - 1], old);
+        }
+        if (index < numberOfDimension - 1) {
+            delta += term(value, x[index + 1]) - term(old, x[index + 1]);
+        }
+        return fx + delta;
+    }
+
+    private static double term(double xi, double xiPlus1) {
+        double valley = xiPlus1 - xi * xi;
+        return 100 * (valley * valley) + (xi - 1) * (xi - 1);
+    }
+
+    @Override
+    public double getOptimumFitness() {
+        return 0.0;
+    }
+
+    @Override
+    public double[] getOptimumPosition() {
+        double[] x = new double[numberOfDimension];
+        Arrays.fill(x, 1.0);
+        return x;
+    }
+}
@@ -0,0 +1,54 @@
+package ec.problems;
+
+import java.util.Arrays;
+
+import ec.core.Problem;
+
+public class Schwefel extends Problem {
+    private int numberOfDimensions;
+
+    public Schwefel(int numberOfDimensions, int maxFes) {
+        super("Schwefel", numberOfDimensions, maxFes);
+        this.numberOfDimensions = numberOfDimensions;
+
+        upperLimit = new double[numberOfDimensions];
+        lowerLimit = new double[numberOfDimensions];
+
+        for (int i = 0; i < numberOfDimensions; i++) {
+            lowerLimit[i] = -500.0;
+            upperLimit[i] = 500.0;
+        }
+    }
+
+    @Override
+    protected double evaluate(double[] x, int offset) {
+        double fitness = 0.0;
+        for (int i = offset; i < offset + numberOfDimensions; i++) {
+            fitness -= term(x[i]);
+        }
+        return fitness;
+    }
+
+    // Separable: only the term of the moved coordinate changes
+    @Override
+    protected double evaluate(double[] x, double fx, int index, double value) {
+        return fx - (term(value) - term(x[index]));
+    }
+
+    private static double term(double xi) {
+        return xi * Math.sin(Math.sqrt(Math.abs(xi)));
+    }
+
+    // f(x*) = -418.98... D at x_i = 420.97..., where the derivative of every term vanishes
+    @Override
+    public double getOptimumFitness() {
+        return -418.98288727243374 * numberOfDimensions;
+    }
+
+    @Override
+    public double[] getOptimumPosition() {
+        double[] x = new double[numberOfDimensions];
+        Arrays.fill(x, 420.968746359982);
+        return x;
+    }
+}
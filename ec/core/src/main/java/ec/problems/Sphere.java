@@ -0,0 +1,51 @@
+package ec.problems;
+
+import ec.core.Problem;
+
+public class Sphere extends Problem {
+
+    public Sphere(int numberOfDimension, int maxFes) {
+        super("Sphere", numberOfDimension, maxFes);
+
+        upperLimit = new double[numberOfDimension];
+        lowerLimit = new double[numberOfDimension];
+
+        for (int i = 0; i < numberOfDimension; i++) {
+            if(i%2==0){ // 2,4,6...
+                lowerLimit[i] = -10.0;
+                upperLimit[i] = 10.0;
+            } else {
+                lowerLimit[i] = -100.0;
+                upperLimit[i] = 100.0;
+            }
+        }
+    }
+
+    @Override
+    protected double evaluate(double[] x, int offset) {
+        double fitness = 0.0;
+
+        for (int i = offset; i < offset + numberOfDimension; i++) {
+            fitness += x[i] * x[i];
+        }
+
+        return fitness;
+    }
+
+    // Separable: only the square of the moved coordinate changes
+    @Override
+    protected double evaluate(double[] x, double fx, int index, double value) {
+        double old = x[index];
+        return fx + (value - old) * (value + old); // value^2 - old^2 with one rounding less
+    }
+
+    @Override
+    public double getOptimumFitness() {
+        return 0.0;
+    }
+
+    @Override
+    public double[] getOptimumPosition() {
+        return new double[numberOfDimension];
+    }
+}
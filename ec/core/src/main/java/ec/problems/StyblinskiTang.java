@@ -0,0 +1,53 @@
+package ec.problems;
+
+import java.util.Arrays;
+
+import ec.core.Problem;
+
+public class StyblinskiTang extends Problem {
+
+    public StyblinskiTang(int numberOfDimensions, int maxFes) {
+        super("Styblinski-Tang", numberOfDimensions, maxFes);
+
+        upperLimit = new double[numberOfDimensions];
+        lowerLimit = new double[numberOfDimensions];
+
+        for (int i = 0; i < numberOfDimensions; i++) {
+            lowerLimit[i] = -5.0;
+            upperLimit[i] = 5.0;
+        }
+    }
+
+    @Override
+    protected double evaluate(double[] x, int offset) {
+        double sum = 0.0;
+        for (int i = offset; i < offset + numberOfDimension; i++) {
+            sum += term(x[i]);
+        }
+        return sum / 2.0;
+    }
+
+    // Separable: only the term of the moved coordinate changes (the sum is halved)
+    @Override
+    protected double evaluate(double[] x, double fx, int index, double value) {
+        return fx + (term(value) - term(x[index])) / 2.0;
+    }
+
+    private static double term(double xi) {
+        double x2 = xi * xi;
+        return x2 * x2 - 16 * x2 + 5 * xi;
+    }
+
+    // x_i = -2.9035... is the smaller root of 4x^3 - 32x + 5, f(x*) = -39.166... D
+    @Override
+    public double getOptimumFitness() {
+        return -39.16616570377141 * numberOfDimension;
+    }
+
+    @Override
+    public double[] getOptimumPosition() {
+        double[] x = new double[numberOfDimension];
+        Arrays.fill(x, -2.903534027771177);
+        return x;
+    }
+}
@@ -0,0 +1,71 @@
+package ec.problems;
+
+import ec.core.Problem;
+
+public class Trid extends Problem {
+
+    public Trid(int numberOfDimension, int maxFes) {
+        super("Trid", numberOfDimension, maxFes);
+
+        upperLimit = new double[numberOfDimension];
+        lowerLimit = new double[numberOfDimension];
+
+        // D^2 in double, the int product overflows above D = 46340
+        double limit = (double) numberOfDimension * numberOfDimension;
+        for (int i = 0; i < numberOfDimension; i++) {
+            lowerLimit[i] = -limit;
+            upperLimit[i] = limit;
+        }
+    }
+
+    @Override
+    protected double evaluate(double[] x, int offset) {
+        int d = numberOfDimension;
+        double sum1 = 0.0;
+        double sum2 = 0.0;
+
+        double first = x[offset] - 1;
+        sum1 += first * first;
+        for (int i = offset + 1; i < offset + d; i++) {
+            double xi = x[i] - 1;
+            sum1 += xi * xi;
+        }
+
+        for (int i = offset + 1; i < offset + d; i++) {
+            sum2 += x[i] * x[i - 1];
+        }
+        return sum1 - sum2;
+    }
+
+    // Chain: coordinate i appears in its own square and in the products with its two neighbours
+    @Override
+    protected double evaluate(double[] x, double fx, int index, double value) {
+        double old = x[index];
+        double neighbours = 0.0;
+        if (index > 0) {
+            neighbours += x[index - 1];
+        }
+        if (index < numberOfDimension - 1) {
+            neighbours += x[index + 1];
+        }
+        // (value - 1)^2 - (old - 1)^2 = (value - old) * (value + old - 2)
+        return fx + (value - old) * (value + old - 2 - neighbours);
+    }
+
+    // f(x*) = -D (D + 4) (D - 1) / 6 at x_i = i (D + 1 - i), i = 1 .. D
+    @Override
+    public double getOptimumFitness() {
+        double d = numberOfDimension;
+        return -d * (d + 4) * (d - 1) / 6;
+    }
+
+    @Override
+    public double[] getOptimumPosition() {
+        double d = numberOfDimension;
+        double[] x = new double[numberOfDimension];
+        for (int i = 1; i <= numberOfDimension; i++) {
+            x[i - 1] = i * (d + 1 - i);
+        }
+        return x;
+    }
+}
@@ -0,0 +1,156 @@
+package ec.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import ec.problems.Sphere;
+
+class CachedProblemTest {
+
+    @Test
+    void repeatedVectorIsAHit() {
+        CachedProblem problem = new CachedProblem(new Sphere(3, 100), 64);
+        double[] x = { 1.0, -2.0, 0.5 };
+
+        double first = problem.fitnessFunction(x);
+        double second = problem.fitnessFunction(x);
+
+        assertEquals(5.25, first, 0.0);
+        assertEquals(first, second, 0.0);
+        assertEquals(1, problem.getMisses());
+        assertEquals(1, problem.getHits());
+        assertEquals(0.5, problem.getHitRate(), 0.0);
+        // hits are counted by default
+        assertEquals(2, problem.getCurrentFes());
+    }
+
+    @Test
+    void keysAreComparedBitForBit() {
+        CachedProblem problem = new CachedProblem(new Sphere(2, 100), 64);
+
+        problem.fitnessFunction(new double[] { 0.0, 1.0 });
+        problem.fitnessFunction(new double[] { -0.0, 1.0 });
+        problem.fitnessFunction(new double[] { 0.0, Math.nextUp(1.0) });
+
+        assertEquals(3, problem.getMisses());
+        assertEquals(0, problem.getHits());
+    }
+
+    @Test
+    void uncountedHitsAreRefunded() {
+        CachedProblem problem = new CachedProblem(new Sphere(2, 3), 64, false);
+        double[] x = { 3.0, 4.0 };
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(25.0, problem.fitnessFunction(x), 0.0);
+        }
+
+        assertEquals(1, problem.getMisses());
+        assertEquals(9, problem.getHits());
+        assertEquals(1, problem.getCurrentFes());
+        assertFalse(problem.isTerminated());
+    }
+
+    @Test
+    void budgetLimitsMissesWhenHitsAreFree() {
+        CachedProblem problem = new CachedProblem(new Sphere(1, 3), 64, false);
+
+        for (int i = 0; i < 3; i++) {
+            problem.fitnessFunction(new double[] { i });
+            problem.fitnessFunction(new double[] { i });
+        }
+
+        assertEquals(3, problem.getCurrentFes());
+        assertEquals(Double.POSITIVE_INFINITY, problem.fitnessFunction(new double[] { 7.0 }), 0.0);
+        assertEquals(3, problem.getMisses());
+    }
+
+    // An algorithm that only ever proposes the same vector must still run out of budget
+    @Test
+    void constantTrialRunTerminates() {
+        int maxFes = 50;
+        CachedProblem problem = new CachedProblem(new Sphere(2, maxFes), 64, false);
+        Algorithm constant = new Algorithm() {
+            @Override
+            public Solution execute(Problem p, boolean isDebug, Rng rng) {
+                double[] x = { 1.0, 2.0 };
+                double fitness = Double.POSITIVE_INFINITY;
+                while (!p.isTerminated()) {
+                    fitness = Math.min(fitness, p.fitnessFunction(x));
+                }
+                return new Solution(x, fitness);
+            }
+        };
+
+        Solution best = assertTimeoutPreemptively(Duration.ofSeconds(10),
+                () -> constant.execute(problem, false, new Rng(1)));
+
+        assertEquals(5.0, best.getFitness(), 0.0);
+        assertTrue(problem.isTerminated());
+        assertEquals(maxFes, problem.getCurrentFes());
+        assertEquals(1, problem.getMisses());
+        // the free hits, then the rest of the budget
+        assertEquals((long) CachedProblem.FREE_HITS_PER_FE * maxFes + maxFes - 1, problem.getHits());
+    }
+
+    @Test
+    void movesShareTheCacheWithFullEvaluations() {
+        CachedProblem problem = new CachedProblem(new Sphere(2, 100), 64);
+        double[] x = { 1.0, 2.0 };
+        double fx = problem.fitnessFunction(x);
+
+        double moved = problem.evaluateMove(x, fx, 1, 3.0);
+
+        assertEquals(10.0, moved, 1e-12);
+        assertEquals(2.0, x[1], 0.0);
+        assertEquals(moved, problem.fitnessFunction(new double[] { 1.0, 3.0 }), 0.0);
+        assertEquals(2, problem.getMisses());
+        assertEquals(1, problem.getHits());
+    }
+
+    @Test
+    void capacityIsBounded() {
+        CachedProblem problem = new CachedProblem(new Sphere(1, 100_000), 100);
+        int capacity = problem.getCapacity();
+
+        for (int i = 0; i < 10 * capacity; i++) {
+            problem.fitnessFunction(new double[] { i });
+        }
+        assertEquals(10 * capacity, problem.getMisses());
+
+        // the last vector is still cached, at most capacity of the others are
+        problem.fitnessFunction(new double[] { 10 * capacity - 1 });
+        assertEquals(1, problem.getHits());
+        for (int i = 0; i < 10 * capacity - 1; i++) {
+            problem.fitnessFunction(new double[] { i });
+        }
+        assertTrue(problem.getHits() <= capacity);
+    }
+
+    @Test
+    void resetEmptiesTheCache() {
+        CachedProblem problem = new CachedProblem(new Sphere(2, 100), 64);
+        double[] x = { 1.0, 1.0 };
+        problem.fitnessFunction(x);
+        problem.fitnessFunction(x);
+
+        problem.reset();
+        problem.fitnessFunction(x);
+
+        assertEquals(1, problem.getCurrentFes());
+        assertEquals(1, problem.getMisses());
+        assertEquals(0, problem.getHits());
+    }
+
+    @Test
+    void rejectsNonPositiveCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new CachedProblem(new Sphere(2, 100), 0));
+    }
+}
@@ -0,0 +1,171 @@
+package ec.runner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+import ec.core.Algorithm;
+import ec.core.Problem;
+import ec.core.Rng;
+import ec.core.Solution;
+
+// Runs independent (problem, dimension, run) jobs on a shared pool. Every job builds its own
+// Problem and Algorithm and gets its own Rng seeded from the base seed, so a sweep gives the same
+// numbers for any thread count. With a target precision the handler also gets the FEs every run
+// needed to reach it.
+public class ExperimentRunner implements AutoCloseable {
+
+    // Receives the finished runs of one (problem, dimension) cell, ordered by run index.
+    // fesToTarget[i] is the number of evaluations run i needed to reach the target precision,
+    // -1 if it did not reach it or no target is set.
+    public interface CellHandler {
+        void handle(String problemName, int dimension, Solution[] runs, int[] fesToTarget);
+    }
+
+    private final ForkJoinPool pool;
+    private final long baseSeed;
+    private double targetPrecision = Double.NaN; // NaN runs every job to its budget
+
+    public ExperimentRunner(int threads, long baseSeed) {
+        this.pool = new ForkJoinPool(threads);
+        this.baseSeed = baseSeed;
+    }
+
+    public long getBaseSeed() {
+        return baseSeed;
+    }
+
+    public int getThreads() {
+        return pool.getParallelism();
+    }
+
+    // Stops every later run as soon as it is within precision of the known optimum of its problem
+    // (Problem.setTargetPrecision); problems without a known optimum still use their whole budget
+    public void setTargetPrecision(double precision) {
+        if (!(precision >= 0)) {
+            throw new IllegalArgumentException("Precision must be non-negative: " + precision);
+        }
+        this.targetPrecision = precision;
+    }
+
+    public double getTargetPrecision() {
+        return targetPrecision;
+    }
+
+    // Submits all jobs at once, then hands the cells to the handler on the calling thread in the
+    // order of the sequential loops (dimension, then problem), waiting only for the cell that is
+    // next in line. A null entry means the factory returned no problem.
+    public void run(String[] problemNames, int[] dimensions, int numberOfRuns,
+                    BiFunction<String, Integer, Problem> problemFactory, Supplier<Algorithm> algorithmFactory,
+                    CellHandler handler) {
+        List<List<CompletableFuture<Solution>>> cells = new ArrayList<>();
+        List<int[]> cellFesToTarget = new ArrayList<>();
+        for (int dim : dimensions) {
+            for (String problemName : problemNames) {
+                List<CompletableFuture<Solution>> runs = new ArrayList<>(numberOfRuns);
+                int[] fesToTarget = new int[numberOfRuns]; // each job writes its own entry, read after join()
+                for (int i = 0; i < numberOfRuns; i++) {
+                    final int run = i;
+                    runs.add(CompletableFuture.supplyAsync(
+                            () -> runJob(problemName, dim, run, problemFactory, algorithmFactory, fesToTarget), pool));
+                }
+                cells.add(runs);
+                cellFesToTarget.add(fesToTarget);
+            }
+        }
+
+        int cell = 0;
+        for (int dim : dimensions) {
+            for (String problemName : problemNames) {
+                int[] fesToTarget = cellFesToTarget.get(cell);
+                List<CompletableFuture<Solution>> runs = cells.get(cell++);
+                Solution[] results = new Solution[numberOfRuns];
+                for (int i = 0; i < numberOfRuns; i++) {
+                    results[i] = runs.get(i).join();
+                }
+                handler.handle(problemName, dim, results, fesToTarget);
+            }
+        }
+    }
+
+    private Solution runJob(String problemName, int dim, int run,
+                            BiFunction<String, Integer, Problem> problemFactory, Supplier<Algorithm> algorithmFactory,
+                            int[] fesToTarget) {
+        fesToTarget[run] = -1;
+        Problem problem = problemFactory.apply(problemName, dim);
+        if (problem == null) {
+            return null;
+        }
+        if (!Double.isNaN(targetPrecision) && !Double.isNaN(problem.getOptimumFitness())) {
+            problem.setTargetPrecision(targetPrecision);
+        }
+        Rng rng = new Rng(jobSeed(problemName, dim, run));
+        Solution solution = algorithmFactory.get().execute(problem, false, rng);
+        fesToTarget[run] = problem.getFesToTarget();
+        return solution;
+    }
+
+    // Expected running time to the target (Hansen et al., COCO): all evaluations spent by the runs
+    // over the number of runs that reached it. Runs that did not are counted with maxFes, the
+    // whole budget they used. POSITIVE_INFINITY when no run reached the target.
+    public static double expectedRunningTime(int[] fesToTarget, int maxFes) {
+        long evaluations = 0;
+        int successes = 0;
+        for (int fes : fesToTarget) {
+            if (fes >= 0) {
+                evaluations += fes;
+                successes++;
+            } else {
+                evaluations += maxFes;
+            }
+        }
+        return successes == 0 ? Double.POSITIVE_INFINITY : (double) evaluations / successes;
+    }
+
+    // Number of runs that reached the target
+    public static int successes(int[] fesToTarget) {
+        int successes = 0;
+        for (int fes : fesToTarget) {
+            if (fes >= 0) {
+                successes++;
+            }
+        }
+        return successes;
+    }
+
+    // Seed of one job, depends only on the base seed and the job coordinates
+    public long jobSeed(String problemName, int dimension, int run) {
+        long h = mix(baseSeed ^ problemName.hashCode());
+        h = mix(h ^ dimension);
+        return mix(h ^ run);
+    }
+
+    // Parses a comma separated dimension list such as "100,1000,10000" (the dims= argument of the tasks)
+    public static int[] parseDimensions(String list) {
+        String[] parts = list.split(",");
+        int[] dimensions = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            dimensions[i] = Integer.parseInt(parts[i].trim());
+            if (dimensions[i] < 1) {
+                throw new IllegalArgumentException("Dimension must be positive: " + parts[i]);
+            }
+        }
+        return dimensions;
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long z) {
+        z += 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+}
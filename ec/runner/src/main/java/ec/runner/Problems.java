@@ -0,0 +1,38 @@
+package ec.runner;
+
+import java.util.Set;
+
+import ec.core.Problem;
+import ec.core.Registry;
+
+// Creates benchmark problems by name, shared by the task runners and the benchmarks. The names
+// are those of the default Registry, so problems added by a RegistryProvider work here too.
+public final class Problems {
+
+    private Problems() {
+    }
+
+    // Default budget used in all tasks, see defaultMaxFes
+    public static Problem create(String problemName, int dimensions) {
+        return create(problemName, dimensions, defaultMaxFes(dimensions));
+    }
+
+    // 3000 evaluations per dimension, capped at Integer.MAX_VALUE
+    public static int defaultMaxFes(int dimensions) {
+        return (int) Math.min(3000L * dimensions, Integer.MAX_VALUE);
+    }
+
+    // Throws IllegalArgumentException for an unknown name
+    public static Problem create(String problemName, int dimensions, int maxFes) {
+        Problem problem = Registry.getDefault().createProblem(problemName, dimensions, maxFes);
+        if (problem == null) {
+            throw new IllegalArgumentException("Problem not registered: " + problemName + ", known problems: " + names());
+        }
+        return problem;
+    }
+
+    // Names accepted by create, in registration order
+    public static Set<String> names() {
+        return Registry.getDefault().getProblemNames();
+    }
+}
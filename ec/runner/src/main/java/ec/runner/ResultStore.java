@@ -0,0 +1,352 @@
+package ec.runner;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import ec.core.Solution;
+
+// Append-only binary file with the best fitness of every run, indexed by algorithm, problem,
+// dimension and seed; exportText() writes the text files used for grading. A record cut off by a
+// crash is dropped when the file is opened. Not thread-safe.
+public final class ResultStore implements AutoCloseable {
+
+    private static final int MAGIC = 0x45435253; // "ECRS"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 8;
+
+    private static final byte NAME = 1;     // tag, id, length, UTF-8 bytes
+    private static final byte RESULT = 2;   // tag, algorithm, problem, dimension, seed, run, fitness
+    private static final int NAME_HEADER_SIZE = 1 + 4 + 2;
+    private static final int RESULT_SIZE = 1 + 4 + 4 + 4 + 8 + 4 + 8;
+
+    private final Path file;
+    private final FileChannel channel;
+    private final ByteBuffer pending = ByteBuffer.allocate(1 << 16);
+    private long size; // bytes in the file, pending ones included
+
+    private MappedByteBuffer view;
+
+    private final Map<String, Integer> nameIds = new HashMap<>();
+    private final List<String> names = new ArrayList<>();
+    private final Map<Cell, Offsets> index = new LinkedHashMap<>();
+    private long recordCount;
+
+    // Opens the store, creates the file (and its directory) if it doesn't exist
+    public ResultStore(Path file) throws IOException {
+        this.file = file;
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (channel.size() == 0) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+                header.putInt(MAGIC).putInt(VERSION).flip();
+                while (header.hasRemaining()) {
+                    channel.write(header);
+                }
+                size = HEADER_SIZE;
+            } else {
+                size = scan();
+                channel.truncate(size);
+            }
+            channel.position(size);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public void append(String algorithm, String problem, int dimension, long seed, int run, double fitness)
+            throws IOException {
+        int algorithmId = nameId(algorithm);
+        int problemId = nameId(problem);
+        reserve(RESULT_SIZE);
+        long offset = size;
+        pending.put(RESULT).putInt(algorithmId).putInt(problemId).putInt(dimension)
+                .putLong(seed).putInt(run).putDouble(fitness);
+        size += RESULT_SIZE;
+        addToIndex(new Cell(algorithmId, problemId, dimension, seed), offset);
+    }
+
+    // Appends the runs of one cell of an experiment, missing runs are skipped. Returns the number appended.
+    public int append(String algorithm, String problem, int dimension, long seed, Solution[] runs) throws IOException {
+        int appended = 0;
+        for (int run = 0; run < runs.length; run++) {
+            if (runs[run] != null) {
+                append(algorithm, problem, dimension, seed, run, runs[run].getFitness());
+                appended++;
+            }
+        }
+        return appended;
+    }
+
+    // Fitness of every run of the cell ordered by run, the last one wins if a run was stored twice
+    public double[] getFitness(String algorithm, String problem, int dimension, long seed) throws IOException {
+        Integer algorithmId = nameIds.get(algorithm);
+        Integer problemId = nameIds.get(problem);
+        if (algorithmId == null || problemId == null) {
+            return new double[0];
+        }
+        Offsets offsets = index.get(new Cell(algorithmId, problemId, dimension, seed));
+        return offsets == null ? new double[0] : read(offsets);
+    }
+
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    // Writes <algorithm>-<surname>_<problem>D<dimension>.txt for every algorithm, problem and
+    // dimension in the store, one run per line as BigDecimal.toPlainString(). When a cell was run
+    // with several seeds the one appended last is exported. Returns the number of files written.
+    public int exportText(Path directory, String surname) throws IOException {
+        Map<Cell, Offsets> latest = new LinkedHashMap<>();
+        for (Map.Entry<Cell, Offsets> entry : index.entrySet()) {
+            Cell cell = entry.getKey();
+            Cell key = new Cell(cell.algorithm, cell.problem, cell.dimension, 0L);
+            Offsets current = latest.get(key);
+            if (current == null || current.last() < entry.getValue().last()) {
+                latest.put(key, entry.getValue());
+            }
+        }
+
+        Files.createDirectories(directory);
+        for (Map.Entry<Cell, Offsets> entry : latest.entrySet()) {
+            Cell cell = entry.getKey();
+            String fileName = names.get(cell.algorithm) + "-" + surname + "_" + names.get(cell.problem)
+                    + "D" + cell.dimension + ".txt";
+            try (Writer writer = Files.newBufferedWriter(directory.resolve(fileName), StandardCharsets.UTF_8)) {
+                for (double fitness : read(entry.getValue())) {
+                    writer.write(BigDecimal.valueOf(fitness).toPlainString());
+                    writer.write("\n");
+                }
+            }
+        }
+        return latest.size();
+    }
+
+    // Writes the appended records to the file
+    public void flush() throws IOException {
+        pending.flip();
+        while (pending.hasRemaining()) {
+            channel.write(pending);
+        }
+        pending.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            view = null;
+            channel.close();
+        }
+    }
+
+    // Reads the records and builds the index, returns the end of the last complete record
+    private long scan() throws IOException {
+        long length = channel.size();
+        if (length < HEADER_SIZE) {
+            throw new IOException("Not a result store: " + file);
+        }
+        ByteBuffer buffer = map(length);
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a result store: " + file);
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new IOException("Unsupported result store version " + buffer.getInt(4) + ": " + file);
+        }
+
+        int position = HEADER_SIZE;
+        while (position < length) {
+            byte tag = buffer.get(position);
+            if (tag == NAME) {
+                if (length - position < NAME_HEADER_SIZE) {
+                    break;
+                }
+                int id = buffer.getInt(position + 1);
+                int nameLength = buffer.getShort(position + 5) & 0xFFFF;
+                if (length - position < NAME_HEADER_SIZE + nameLength) {
+                    break;
+                }
+                if (id != names.size()) {
+                    throw new IOException("Corrupt result store at byte " + position + ": " + file);
+                }
+                byte[] bytes = new byte[nameLength];
+                for (int i = 0; i < nameLength; i++) {
+                    bytes[i] = buffer.get(position + NAME_HEADER_SIZE + i);
+                }
+                String name = new String(bytes, StandardCharsets.UTF_8);
+                nameIds.put(name, id);
+                names.add(name);
+                position += NAME_HEADER_SIZE + nameLength;
+            } else if (tag == RESULT) {
+                if (length - position < RESULT_SIZE) {
+                    break;
+                }
+                int algorithm = buffer.getInt(position + 1);
+                int problem = buffer.getInt(position + 5);
+                if (algorithm >= names.size() || problem >= names.size()) {
+                    throw new IOException("Corrupt result store at byte " + position + ": " + file);
+                }
+                addToIndex(new Cell(algorithm, problem, buffer.getInt(position + 9), buffer.getLong(position + 13)),
+                        position);
+                position += RESULT_SIZE;
+            } else if (tag == 0) {
+                break; // zero filled tail, the file was extended but not written
+            } else {
+                throw new IOException("Corrupt result store at byte " + position + ": " + file);
+            }
+        }
+        return position;
+    }
+
+    private double[] read(Offsets offsets) throws IOException {
+        ByteBuffer buffer = currentView();
+        int[] runs = new int[offsets.count];
+        double[] fitness = new double[offsets.count];
+        int count = 0;
+        for (int i = 0; i < offsets.count; i++) {
+            int position = (int) offsets.values[i];
+            int run = buffer.getInt(position + 21);
+            double value = buffer.getDouble(position + 25);
+            // offsets are increasing, so a later record of the same run replaces the earlier one
+            int j = count - 1;
+            while (j >= 0 && runs[j] > run) {
+                j--;
+            }
+            if (j >= 0 && runs[j] == run) {
+                fitness[j] = value;
+                continue;
+            }
+            System.arraycopy(runs, j + 1, runs, j + 2, count - j - 1);
+            System.arraycopy(fitness, j + 1, fitness, j + 2, count - j - 1);
+            runs[j + 1] = run;
+            fitness[j + 1] = value;
+            count++;
+        }
+        return Arrays.copyOf(fitness, count);
+    }
+
+    // Mapping of the whole file with the pending records written out
+    private ByteBuffer currentView() throws IOException {
+        flush();
+        if (view == null || view.capacity() < size) {
+            view = map(size);
+        }
+        return view;
+    }
+
+    private MappedByteBuffer map(long length) throws IOException {
+        if (length > Integer.MAX_VALUE) {
+            throw new IOException("Result store is larger than 2 GB: " + file);
+        }
+        return channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+    }
+
+    private int nameId(String name) throws IOException {
+        Integer id = nameIds.get(name);
+        if (id != null) {
+            return id;
+        }
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Name is too long: " + name.substring(0, 32) + "...");
+        }
+        int newId = names.size();
+        reserve(NAME_HEADER_SIZE + bytes.length);
+        pending.put(NAME).putInt(newId).putShort((short) bytes.length).put(bytes);
+        size += NAME_HEADER_SIZE + bytes.length;
+        nameIds.put(name, newId);
+        names.add(name);
+        return newId;
+    }
+
+    private void reserve(int bytes) throws IOException {
+        if (size + bytes > Integer.MAX_VALUE) {
+            throw new IOException("Result store is full (2 GB): " + file);
+        }
+        if (pending.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    private void addToIndex(Cell cell, long offset) {
+        Offsets offsets = index.get(cell);
+        if (offsets == null) {
+            offsets = new Offsets();
+            index.put(cell, offsets);
+        }
+        offsets.add(offset);
+        recordCount++;
+    }
+
+    private static final class Cell {
+        final int algorithm;
+        final int problem;
+        final int dimension;
+        final long seed;
+
+        Cell(int algorithm, int problem, int dimension, long seed) {
+            this.algorithm = algorithm;
+            this.problem = problem;
+            this.dimension = dimension;
+            this.seed = seed;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Cell)) {
+                return false;
+            }
+            Cell other = (Cell) o;
+            return algorithm == other.algorithm && problem == other.problem
+                    && dimension == other.dimension && seed == other.seed;
+        }
+
+        @Override
+        public int hashCode() {
+            int h = algorithm;
+            h = 31 * h + problem;
+            h = 31 * h + dimension;
+            return 31 * h + Long.hashCode(seed);
+        }
+    }
+
+    // Growable list of record offsets
+    private static final class Offsets {
+        long[] values = new long[8];
+        int count;
+
+        void add(long offset) {
+            if (count == values.length) {
+                values = Arrays.copyOf(values, count * 2);
+            }
+            values[count++] = offset;
+        }
+
+        long last() {
+            return values[count - 1];
+        }
+    }
+}
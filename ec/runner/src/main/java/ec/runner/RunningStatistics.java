@@ -0,0 +1,242 @@
+package ec.runner;
+
+import java.util.Arrays;
+
+// One-pass statistics of a stream: count, min, max, mean and variance (Welford) and quantiles from
+// a merging t-digest, exact up to 10 * compression values. Not thread-safe, combine the instances
+// of several threads with merge().
+public final class RunningStatistics {
+
+    public static final int DEFAULT_COMPRESSION = 200;
+
+    private final double compression;
+
+    private long count;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+    private double mean;
+    private double m2; // sum of squared differences from the mean
+
+    // digest entries (centroids and values), always sorted by mean
+    private final double[] means;
+    private final double[] weights;
+    private int size;
+
+    // added values not yet merged into the entries, each of weight 1
+    private final double[] buffer;
+    private int buffered;
+
+    public RunningStatistics() {
+        this(DEFAULT_COMPRESSION);
+    }
+
+    public RunningStatistics(int compression) {
+        if (compression < 10) {
+            throw new IllegalArgumentException("Compression must be at least 10: " + compression);
+        }
+        this.compression = compression;
+        this.means = new double[10 * compression];
+        this.weights = new double[10 * compression];
+        this.buffer = new double[10 * compression];
+    }
+
+    public void add(double value) {
+        if (Double.isNaN(value)) {
+            throw new IllegalArgumentException("NaN can't be added");
+        }
+        count++;
+        double delta = value - mean;
+        mean += delta / count;
+        m2 += delta * (value - mean);
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        addToBuffer(value);
+    }
+
+    // Adds the values seen by other, which is left unchanged
+    public void merge(RunningStatistics other) {
+        if (other == this) {
+            throw new IllegalArgumentException("Can't merge statistics into themselves");
+        }
+        if (other.count == 0) {
+            return;
+        }
+        if (count == 0) {
+            mean = other.mean;
+            m2 = other.m2;
+        } else {
+            // Chan et al. pairwise update
+            long total = count + other.count;
+            double delta = other.mean - mean;
+            mean += delta * other.count / total;
+            m2 += other.m2 + delta * delta * ((double) count * other.count / total);
+        }
+        count += other.count;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        mergeEntries(other.means, other.weights, other.size);
+        for (int i = 0; i < other.buffered; i++) {
+            addToBuffer(other.buffer[i]);
+        }
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    // NaN for an empty stream, like the getters below
+    public double getMin() {
+        return count == 0 ? Double.NaN : min;
+    }
+
+    public double getMax() {
+        return count == 0 ? Double.NaN : max;
+    }
+
+    public double getMean() {
+        return count == 0 ? Double.NaN : mean;
+    }
+
+    // Population variance (divides by n)
+    public double getVariance() {
+        return count == 0 ? Double.NaN : m2 / count;
+    }
+
+    // Sample variance (divides by n - 1)
+    public double getSampleVariance() {
+        return count < 2 ? Double.NaN : m2 / (count - 1);
+    }
+
+    // Population standard deviation, as reported by the tasks
+    public double getStandardDeviation() {
+        return Math.sqrt(getVariance());
+    }
+
+    public double getMedian() {
+        return getQuantile(0.5);
+    }
+
+    // Quantile q in [0, 1]. Every entry is placed at the middle of its weight and the values in
+    // between are interpolated linearly (for single values this is the Hazen definition, with the
+    // usual median), q = 0 and q = 1 give min and max.
+    public double getQuantile(double q) {
+        if (!(q >= 0 && q <= 1)) {
+            throw new IllegalArgumentException("Quantile must be in [0, 1]: " + q);
+        }
+        if (count == 0) {
+            return Double.NaN;
+        }
+        flush();
+
+        double target = q * count;
+        double previousCenter = 0.0;
+        double previousMean = min;
+        double cumulative = 0.0;
+        for (int i = 0; i < size; i++) {
+            double center = cumulative + weights[i] / 2;
+            if (target < center) {
+                return interpolate(previousMean, means[i], previousCenter, center, target);
+            }
+            previousCenter = center;
+            previousMean = means[i];
+            cumulative += weights[i];
+        }
+        return interpolate(previousMean, max, previousCenter, count, target);
+    }
+
+    @Override
+    public String toString() {
+        return "n=" + count + ", min=" + getMin() + ", median=" + getMedian() + ", mean=" + getMean()
+                + ", std=" + getStandardDeviation() + ", max=" + getMax();
+    }
+
+    private static double interpolate(double from, double to, double fromPosition, double toPosition, double position) {
+        if (toPosition <= fromPosition) {
+            return to;
+        }
+        return from + (to - from) * ((position - fromPosition) / (toPosition - fromPosition));
+    }
+
+    private void addToBuffer(double value) {
+        if (buffered == buffer.length) {
+            flush();
+        }
+        buffer[buffered++] = value;
+    }
+
+    // Sorts the buffered values and merges them into the entries
+    private void flush() {
+        if (buffered > 0) {
+            Arrays.sort(buffer, 0, buffered);
+            mergeEntries(buffer, null, buffered);
+            buffered = 0;
+        }
+    }
+
+    // Merges the n sorted entries of otherMeans (weights otherWeights, all 1 when null) into the
+    // entries, from the back so that no scratch array is needed; compresses when they are full
+    private void mergeEntries(double[] otherMeans, double[] otherWeights, int n) {
+        int from = 0;
+        while (from < n) {
+            if (size == means.length) {
+                compress();
+            }
+            int chunk = Math.min(n - from, means.length - size);
+            int i = size - 1;
+            int j = from + chunk - 1;
+            for (int k = size + chunk - 1; j >= from; k--) {
+                if (i >= 0 && means[i] > otherMeans[j]) {
+                    means[k] = means[i];
+                    weights[k] = weights[i];
+                    i--;
+                } else {
+                    means[k] = otherMeans[j];
+                    weights[k] = otherWeights == null ? 1.0 : otherWeights[j];
+                    j--;
+                }
+            }
+            size += chunk;
+            from += chunk;
+        }
+    }
+
+    // Merges neighbouring entries while their weight fits the k1 scale function of t-digest:
+    // an entry may span at most one unit of k(q) = compression / (2 pi) * asin(2q - 1), which
+    // keeps the entries near q = 0 and q = 1 small. Leaves at most about compression entries.
+    private void compress() {
+        double total = 0.0;
+        for (int i = 0; i < size; i++) {
+            total += weights[i];
+        }
+
+        int last = 0;
+        double left = 0.0; // weight before entry 'last'
+        double limit = total * quantileOfK(kOfQuantile(0.0) + 1);
+        for (int i = 1; i < size; i++) {
+            double merged = weights[last] + weights[i];
+            if (left + merged <= limit) {
+                means[last] += (means[i] - means[last]) * weights[i] / merged;
+                weights[last] = merged;
+            } else {
+                left += weights[last];
+                limit = total * quantileOfK(kOfQuantile(left / total) + 1);
+                last++;
+                means[last] = means[i];
+                weights[last] = weights[i];
+            }
+        }
+        size = last + 1;
+    }
+
+    private double kOfQuantile(double q) {
+        return compression / (2 * Math.PI) * Math.asin(2 * q - 1);
+    }
+
+    private double quantileOfK(double k) {
+        double bound = compression / 4;
+        if (k >= bound) {
+            return 1.0;
+        }
+        return (Math.sin(Math.max(k, -bound) * 2 * Math.PI / compression) + 1) / 2;
+    }
+}
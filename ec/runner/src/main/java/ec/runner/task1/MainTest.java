@@ -1,5 +1,26 @@
+package ec.runner.task1;
+
 import java.util.Arrays;
 
+import ec.algorithms.RandomSearch;
+import ec.core.Algorithm;
+import ec.core.DebugLog;
+import ec.core.Problem;
+import ec.core.Solution;
+import ec.problems.Ackley;
+import ec.problems.Bukin;
+import ec.problems.CarromTable;
+import ec.problems.Griewank;
+import ec.problems.Levy;
+import ec.problems.Michalewicz;
+import ec.problems.Rastrigin;
+import ec.problems.Rosenbrock;
+import ec.problems.Schwefel;
+import ec.problems.Sphere;
+import ec.problems.StyblinskiTang;
+import ec.problems.Trid;
+import ec.runner.Problems;
+
 public class MainTest {
 
     private static final int dim_2 = 2;
@@ -37,7 +58,7 @@ public class MainTest {
                             -418.982887272433799807913601398 * dim_2 },
                     { "Rosenbrock", new Rosenbrock(dim_2, 1), new Double[] { 1.0, 1.0 }, 0.0 },
                     { "Trid", new Trid(dim_2, 1), new Double[] { 0.0, 2.0 }, trid_expected2 }, // bad numbers?
-                    { "Bukin", new Bukin(1), new Double[] { -10.0, 1.0 }, 0.0 }, // only 2 dims!
+                    { "Bukin", new Bukin(dim_2, 1), new Double[] { -10.0, 1.0 }, 0.0 }, // only 2 dims!
                     { "Carrom Table", new CarromTable(dim_2, 1), new Double[] { 9.64128758, -9.64128758 },
                             -24.15681551650653 },
                     { "Styblinski-Tang", new StyblinskiTang(dim_2, 1),
@@ -147,6 +168,27 @@ public class MainTest {
             }
             System.out.println("Passed " + passed10 + " tests out of " + parameters_10_dimensions.length + "\n");
 
+            // Known optima of the problems: the function at getOptimumPosition is getOptimumFitness
+            System.out.println("Unit tests - known optima");
+            String[] problemNames = { "Sphere", "Ackley", "Griewank", "Rastrigin", "Schwefel", "Rosenbrock", "Trid",
+                    "Bukin", "CarromTable", "StyblinskiTang", "Levy", "Michalewicz" };
+            int passedOptima = 0;
+            int optimaTests = 0;
+            for (int dim : new int[] { dim_2, dim_5, dim_10 }) {
+                for (String name : problemNames) {
+                    if (name.equals("Bukin") && dim != dim_2) {
+                        continue; // only 2 dims!
+                    }
+                    Problem p = Problems.create(name, dim, 1);
+                    optimaTests++;
+                    if (unitTest(name + " (dim=" + dim + ")", p, Solution.toBoxed(p.getOptimumPosition()),
+                            p.getOptimumFitness(), acceptBorder)) {
+                        passedOptima++;
+                    }
+                }
+            }
+            System.out.println("Passed " + passedOptima + " tests out of " + optimaTests + "\n");
+
         } else {
             System.out.println("Run - 2 dimensions");
             runProblem("Sphere", new Sphere(dim_2, maxFestDefault * dim_2));
@@ -156,7 +198,7 @@ public class MainTest {
             runProblem("Schwefel26", new Schwefel(dim_2, maxFestDefault * dim_2));
             runProblem("Rosenbrock", new Rosenbrock(dim_2, maxFestDefault * dim_2));
             runProblem("Trid", new Trid(dim_2, maxFestDefault * dim_2));
-            runProblem("Bukin", new Bukin(maxFestDefault * dim_2)); // only 2 dimensions!
+            runProblem("Bukin", new Bukin(dim_2, maxFestDefault * dim_2)); // only 2 dimensions!
             runProblem("Carrom Table", new CarromTable(dim_2, maxFestDefault * dim_2));
             runProblem("Styblinski-Tang", new StyblinskiTang(dim_2, maxFestDefault * dim_2));
             runProblem("Levy", new Levy(dim_2, maxFestDefault * dim_2));
@@ -218,6 +260,9 @@ public class MainTest {
     public static void runProblem(String problemName, Problem problem) {
         Algorithm rs = new RandomSearch();
         Solution best = rs.execute(problem, debugMode);
+        if (debugMode) {
+            DebugLog.console().flush(); // debug events are printed asynchronously, keep them before the result
+        }
         System.out.println(problemName + ": " + Arrays.toString(best.getX()) + ", fitness: " + best.getFitness());
     }
 }
@@ -0,0 +1,187 @@
+package ec.runner.task2;
+
+import ec.algorithms.HillClimbing;
+import ec.algorithms.ImprovedHillClimbing;
+import ec.core.Algorithm;
+import ec.core.DebugLog;
+import ec.core.Problem;
+import ec.core.ProblemFactory;
+import ec.core.Registry;
+import ec.core.Solution;
+import ec.runner.RunningStatistics;
+
+public class MainTest {
+
+        private static final int dim_2 = 2;
+        private static final int dim_5 = 5;
+        private static final int dim_10 = 10;
+        private static final int maxFestDefault = 3000;
+        private static final double defaultStepSize = 0.1;
+        private static final int runs = 100;
+        public static boolean debugMode = false;
+        public static boolean runAll = false;
+        public static boolean runOne = false;
+        public static boolean compare = false;
+
+        public static void main(String[] args) {
+
+                for (String arg : args) {
+                        if (arg.equalsIgnoreCase("isDebug")) {
+                                debugMode = true;
+                                System.out.println("Debug mode enabled");
+                        } else if (arg.equalsIgnoreCase("runAll")) {
+                                runAll = true;
+                        }
+                        else if (arg.equalsIgnoreCase("runOne")) {
+                                runOne = true;
+                        }
+                        else if (arg.equalsIgnoreCase("compare")) {
+                                compare = true;
+                        }
+                }
+
+                if(runAll && runOne) {
+                        throw new IllegalArgumentException("Can't be executed with runAll and runOne argument together.");
+                }
+
+                if (runAll) {
+                        Object[][] problems = {
+                                        { "Sphere", factory("Sphere") },
+                                        { "Ackley", factory("Ackley") },
+                                        { "Griewank", factory("Griewank") },
+                                        { "Rastrigin", factory("Rastrigin") },
+                                        { "Schwefel26", factory("Schwefel") },
+                                        { "Rosenbrock", factory("Rosenbrock") },
+                                        { "Bukin", factory("Bukin") },
+                                        { "CarromTable", factory("CarromTable") },
+                                        { "StyblinskiTang", factory("StyblinskiTang") },
+                                        { "Michalewicz", factory("Michalewicz") }
+                        };
+
+                        runProblems(problems, dim_2);
+                        runProblems(problems, dim_5);
+                        runProblems(problems, dim_10);
+                }
+
+                if (runOne) {
+                        Object[][] problems = {
+                                { "Sphere", factory("Sphere") },
+                        };
+                        compare(problems, dim_2);
+                }
+
+                if (compare) {
+                        Object[][] problems = {
+                                { "Sphere", factory("Sphere") },
+                                { "Ackley", factory("Ackley") },
+                                { "Griewank", factory("Griewank") },
+                                { "Rastrigin", factory("Rastrigin") },
+                                { "Schwefel26", factory("Schwefel") },
+                                { "Rosenbrock", factory("Rosenbrock") },
+                                { "Bukin", factory("Bukin") },
+                                { "CarromTable", factory("CarromTable") },
+                                { "StyblinskiTang", factory("StyblinskiTang") },
+                                { "Michalewicz", factory("Michalewicz") }
+                        };
+
+                        compare(problems, dim_2);
+                        compare(problems, dim_5);
+                        compare(problems, dim_10);
+                }
+
+        }
+
+        private static void compare(Object[][] problems, int dimensions){
+                for (Object[] problem : problems) {
+
+                        String name = (String) problem[0];
+                        // Bukin is defined only for 2 dimensions
+                        if (name == "Bukin" && dimensions != 2) {
+                                continue;
+                        }
+                        int maxFes = maxFestDefault * dimensions;
+
+                        // Normal
+                        ProblemFactory factory = (ProblemFactory) problem[1];
+                        RunningStatistics resultsNormal = runProblem(name, factory, dimensions, maxFes);
+
+                        // Improved
+                        RunningStatistics resultsImproved = runProblemImproved(name, factory, dimensions, maxFes);
+
+                        System.out.println("Problem: " + name + ", Dimensions: " + dimensions);
+                        System.out.println("Original - Min: " + resultsNormal.getMin() + ", Median: " + resultsNormal.getMedian()
+                                        + ", Average: " + resultsNormal.getMean() + ", Std: " + resultsNormal.getStandardDeviation());
+                        System.out.println("Improved - Min: " + resultsImproved.getMin() + ", Median: " + resultsImproved.getMedian()
+                                        + ", Average: " + resultsImproved.getMean() + ", Std: " + resultsImproved.getStandardDeviation());
+                }
+        }
+
+        private static void runProblems(Object[][] problems, int dimensions) {
+                for (Object[] problem : problems) {
+                        String name = (String) problem[0];
+                        // Bukin is defined only for 2 dimensions
+                        if (name == "Bukin" && dimensions != 2) {
+                                continue;
+                        }
+                        ProblemFactory factory = (ProblemFactory) problem[1];
+                        int maxFes = maxFestDefault * dimensions;
+
+                        RunningStatistics results = runProblem(name, factory, dimensions, maxFes);
+
+                        System.out.println("Problem: " + name + ", " + "Dimensions: " + dimensions + ", " +
+                                        "Min: " + results.getMin() + ", " + "Median: " + results.getMedian() + ", " +
+                                        "Average: " + results.getMean() + ", " + "Std: " + results.getStandardDeviation());
+                }
+        }
+
+        private static RunningStatistics runProblem(String name, ProblemFactory factory, int dimensions, int maxFes) {
+                RunningStatistics results = new RunningStatistics();
+
+                for (int i = 0; i < runs; i++) {
+                        Problem problem = factory.create(dimensions, maxFes);
+                        Solution best = runProblemHillClimbing(name, problem, defaultStepSize);
+                        results.add(best.getFitness());
+                }
+
+                return results;
+        }
+
+        private static RunningStatistics runProblemImproved(String name, ProblemFactory factory, int dimensions, int maxFes) {
+                RunningStatistics results = new RunningStatistics();
+
+                for (int i = 0; i < runs; i++) {
+                        Problem problem = factory.create(dimensions, maxFes);
+                        Solution best = runProblemImprovedHillClimbing(name, problem, defaultStepSize);
+                        results.add(best.getFitness());
+                }
+                return results;
+        }
+
+        // Factory of a registered problem, looked up once per table instead of once per run
+        private static ProblemFactory factory(String problemName) {
+                ProblemFactory factory = Registry.getDefault().getProblemFactory(problemName);
+                if (factory == null) {
+                        throw new IllegalArgumentException("Problem not registered: " + problemName);
+                }
+                return factory;
+        }
+
+        public static Solution runProblemHillClimbing(String problemName, Problem problem, double stepSize) {
+                Algorithm hillClimbing = new HillClimbing(stepSize);
+                return runAndFlush(hillClimbing, problem);
+        }
+
+        public static Solution runProblemImprovedHillClimbing(String problemName, Problem problem, double stepSize) {
+                Algorithm hillClimbing = new ImprovedHillClimbing(stepSize);
+                return runAndFlush(hillClimbing, problem);
+        }
+
+        // debug events are printed asynchronously, keep them before the output of the caller
+        private static Solution runAndFlush(Algorithm algorithm, Problem problem) {
+                Solution best = algorithm.execute(problem, debugMode);
+                if (debugMode) {
+                        DebugLog.console().flush();
+                }
+                return best;
+        }
+}
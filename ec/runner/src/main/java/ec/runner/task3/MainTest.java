@@ -0,0 +1,127 @@
+package ec.runner.task3;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import ec.algorithms.DifferentialEvolution;
+import ec.core.Solution;
+import ec.runner.ExperimentRunner;
+import ec.runner.Problems;
+import ec.runner.ResultStore;
+
+public class MainTest {
+
+    public static void main(String[] args) {
+        boolean writeToFile = false; // don't write to file by default
+        boolean export = false;
+        String surname = "Pospisil";
+        int numberOfRuns = 50;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long seed = System.nanoTime();
+        int[] dimensions = {10, 20, 30}; // dims=100,1000,10000 for large-scale runs
+        double target = Double.NaN; // target=1e-8 stops runs that close to the known optimum
+
+        for (String arg : args) {
+            if (arg.equalsIgnoreCase("writeToFile")) {
+                writeToFile = true;
+                System.out.println("Write to file enabled.");
+            } else if (arg.equalsIgnoreCase("export")) {
+                export = true;
+            } else if (arg.startsWith("threads=")) {
+                threads = Integer.parseInt(arg.substring("threads=".length()));
+            } else if (arg.startsWith("seed=")) {
+                seed = Long.parseLong(arg.substring("seed=".length()));
+            } else if (arg.startsWith("dims=")) {
+                dimensions = ExperimentRunner.parseDimensions(arg.substring("dims=".length()));
+            } else if (arg.startsWith("runs=")) {
+                numberOfRuns = Integer.parseInt(arg.substring("runs=".length()));
+            } else if (arg.startsWith("target=")) {
+                target = Double.parseDouble(arg.substring("target=".length()));
+            }
+        }
+
+        String[] problemNames = {
+            "Ackley", 
+            "Griewank", 
+            "Levy", 
+            "Michalewicz",
+            "Rastrigin", 
+            "Rosenbrock", 
+            "Schwefel", 
+            "Sphere", 
+            "StyblinskiTang",
+            "Trid"
+        };
+
+        // all runs are appended to one binary store, export writes the text files for grading
+        Path storeFile = Paths.get("results", surname + ".ecr");
+        if (export && !writeToFile) {
+            exportResults(storeFile, surname);
+            return;
+        }
+
+        final int runCount = numberOfRuns;
+        try (ResultStore store = writeToFile ? new ResultStore(storeFile) : null;
+                ExperimentRunner runner = new ExperimentRunner(threads, seed)) {
+            System.out.println("Threads: " + runner.getThreads() + ", seed: " + runner.getBaseSeed());
+            if (!Double.isNaN(target)) {
+                runner.setTargetPrecision(target);
+            }
+
+            // jobs run in parallel, cells are handed back in the order of the loops above
+            runner.run(problemNames, dimensions, runCount, Problems::create, DifferentialEvolution::new,
+                    (problemName, dim, runs, fesToTarget) -> {
+                for (int i = 0; i < runCount; i++) {
+
+                    Solution bestSolution = runs[i];
+
+                    BigDecimal fitness = BigDecimal.valueOf(bestSolution.getFitness());
+                    
+                    // console output
+                    String runNumber = String.format("%02d", i + 1); // format the run number with leading zero
+                    System.out.println("Run " + runNumber + " - Problem: " + problemName + " (dim=" + dim + ")" +
+                            " Best Fitness: " + fitness.toPlainString() +
+                            (fesToTarget[i] >= 0 ? ", target after " + fesToTarget[i] + " FEs" : ""));
+                }
+                if (!Double.isNaN(runner.getTargetPrecision())) {
+                    System.out.println("Problem: " + problemName + " (dim=" + dim + ") - Target reached: "
+                            + ExperimentRunner.successes(fesToTarget) + "/" + runCount + ", ERT: "
+                            + ExperimentRunner.expectedRunningTime(fesToTarget, Problems.defaultMaxFes(dim)));
+                }
+
+                // append results to the store (if enabled), flushed per cell so finished cells survive a crash
+                if (store != null) {
+                    try {
+                        store.append("DE", problemName, dim, runner.getBaseSeed(), runs);
+                        store.flush();
+                        System.out.println("Results appended to: " + storeFile);
+                    } catch (IOException e) {
+                        System.err.println("Failed to append to: " + storeFile);
+                        e.printStackTrace();
+                    }
+                }
+            });
+        } catch (IOException e) {
+            System.err.println("Failed to open result store: " + storeFile);
+            e.printStackTrace();
+            return;
+        }
+
+        if (export) {
+            exportResults(storeFile, surname);
+        }
+    }
+
+    // Writes <algorithm>-<surname>_<problem>D<dim>.txt next to the store from the last run of every cell
+    private static void exportResults(Path storeFile, String surname) {
+        try (ResultStore store = new ResultStore(storeFile)) {
+            int files = store.exportText(storeFile.getParent(), surname);
+            System.out.println("Exported " + files + " result files from: " + storeFile);
+        } catch (IOException e) {
+            System.err.println("Failed to export result store: " + storeFile);
+            e.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package ec.runner.task4;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import ec.algorithms.DifferentialEvolution;
+import ec.algorithms.ImprovedGrayWolfOptimization;
+import ec.core.Algorithm;
+import ec.core.Problem;
+import ec.core.Solution;
+import ec.runner.ExperimentRunner;
+import ec.runner.Problems;
+import ec.runner.ResultStore;
+import ec.runner.RunningStatistics;
+
+public class MainTest {
+
+    public static void main(String[] args) {
+        boolean writeToFile = false; // don't write to file by default
+        boolean compare = false;
+        boolean export = false;
+        int numberOfRuns = 50;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long seed = System.nanoTime();
+        int[] dimensions = {10, 20, 30}; // dims=100,1000,10000 for large-scale runs
+        double target = Double.NaN; // target=1e-8 stops runs that close to the known optimum
+        // int[] dimensions = { 2 };
+
+        for (String arg : args) {
+            if (arg.equalsIgnoreCase("writeToFile")) {
+                writeToFile = true;
+                System.out.println("Write to file enabled.");
+            } else if (arg.equalsIgnoreCase("compare")) {
+                compare = true;
+            } else if (arg.equalsIgnoreCase("export")) {
+                export = true;
+            } else if (arg.startsWith("threads=")) {
+                threads = Integer.parseInt(arg.substring("threads=".length()));
+            } else if (arg.startsWith("seed=")) {
+                seed = Long.parseLong(arg.substring("seed=".length()));
+            } else if (arg.startsWith("dims=")) {
+                dimensions = ExperimentRunner.parseDimensions(arg.substring("dims=".length()));
+            } else if (arg.startsWith("runs=")) {
+                numberOfRuns = Integer.parseInt(arg.substring("runs=".length()));
+            } else if (arg.startsWith("target=")) {
+                target = Double.parseDouble(arg.substring("target=".length()));
+            }
+        }
+
+        if (compare) {
+            System.out.println("Compare mode activated:");
+            compare();
+        } else if (export && !writeToFile) {
+            exportResults();
+        } else {
+            System.out.println("Running IGWO only:");
+            runIGWO(numberOfRuns, dimensions, writeToFile, threads, seed, target);
+            if (export) {
+                exportResults();
+            }
+        }
+    }
+
+    private static void compare() {
+        int dim_10 = 10;
+
+        // the expected value of every problem is its known optimum (Problem.getOptimumFitness)
+        String[] problemNames = {
+            "Sphere",
+            "Ackley",
+            "Griewank",
+            "Rastrigin",
+            "Schwefel",
+            // "Rosenbrock", // not sure if good for compare -> getting very different results than expected
+            "Trid",
+            "StyblinskiTang",
+            "Levy",
+            "Michalewicz",
+        };
+    
+        int deBetterCount = 0;
+        int igwoBetterCount = 0;
+        int equalCount = 0;
+    
+        for (String problemName : problemNames) {
+    
+            // DE
+            Problem deProblem = Problems.create(problemName, dim_10);
+            double expected = deProblem.getOptimumFitness();
+            Algorithm de = new DifferentialEvolution();
+            Solution deSolution = de.execute(deProblem, false);
+            BigDecimal deFitness = BigDecimal.valueOf(deSolution.getFitness());
+    
+            // IGWO
+            Problem igwoProblem = Problems.create(problemName, dim_10);
+            Algorithm igwo = new ImprovedGrayWolfOptimization();
+            Solution igwoSolution = igwo.execute(igwoProblem, false);
+            BigDecimal igwoFitness = BigDecimal.valueOf(igwoSolution.getFitness());
+    
+            // Calculate differences
+            double deDifference = Math.abs(deFitness.doubleValue() - expected);
+            double igwoDifference = Math.abs(igwoFitness.doubleValue() - expected);
+    
+            // Determine which is better
+            String betterAlgorithm;
+            if (deDifference < igwoDifference) {
+                betterAlgorithm = "DE";
+                deBetterCount++;
+            } else if (igwoDifference < deDifference) {
+                betterAlgorithm = "IGWO";
+                igwoBetterCount++;
+            } else {
+                betterAlgorithm = "Equal";
+                equalCount++;
+            }
+    
+            System.out.println(problemName);
+            System.out.println("EXP:  " + expected);
+            System.out.println("DE:   " + deFitness);
+            System.out.println("IGWO: " + igwoFitness);
+            System.out.println("DE Difference:   " + deDifference);
+            System.out.println("IGWO Difference: " + igwoDifference);
+            System.out.println("Better: " + betterAlgorithm);
+            System.out.println("\n");
+        }
+    
+        System.out.println("Summary:");
+        System.out.println("DE performed better " + deBetterCount + " times.");
+        System.out.println("IGWO performed better " + igwoBetterCount + " times.");
+        System.out.println("Both performed equally " + equalCount + " times.");
+    }
+    
+
+    // all runs are appended to one binary store, export writes the text files for grading
+    private static final String SURNAME = "Pospisil";
+    private static final Path STORE_FILE = Paths.get("results", SURNAME + ".ecr");
+
+    private static void runIGWO(int numberOfRuns, int[] dimensions, boolean writeToFile, int threads, long seed,
+                                double target) {
+        String[] problemNames = {
+                "Ackley",
+                "Griewank",
+                "Levy",
+                "Michalewicz",
+                "Rastrigin",
+                "Rosenbrock",
+                "Schwefel",
+                "Sphere",
+                "StyblinskiTang",
+                "Trid"
+        };
+
+        try (ResultStore store = writeToFile ? new ResultStore(STORE_FILE) : null;
+                ExperimentRunner runner = new ExperimentRunner(threads, seed)) {
+            System.out.println("Threads: " + runner.getThreads() + ", seed: " + runner.getBaseSeed());
+            if (!Double.isNaN(target)) {
+                runner.setTargetPrecision(target);
+            }
+
+            // jobs run in parallel, cells are handed back in the order of the loops above
+            runner.run(problemNames, dimensions, numberOfRuns, Problems::create, ImprovedGrayWolfOptimization::new,
+                    (problemName, dim, runs, fesToTarget) -> {
+                RunningStatistics statistics = new RunningStatistics();
+
+                for (int i = 0; i < numberOfRuns; i++) {
+
+                    Solution bestSolution = runs[i];
+
+                    BigDecimal fitness = BigDecimal.valueOf(bestSolution.getFitness());
+                    statistics.add(bestSolution.getFitness());
+
+                    // console output
+                    String runNumber = String.format("%02d", i + 1); // format the run number with leading zero
+                    System.out.println("Run " + runNumber + " - Problem: " + problemName + " (dim=" + dim + ")" +
+                            " Best Fitness: " + fitness.toPlainString() +
+                            (fesToTarget[i] >= 0 ? ", target after " + fesToTarget[i] + " FEs" : ""));
+                }
+
+                // display the summary of the cell -> not writing to files!
+                System.out.println("Problem: " + problemName + " (dim=" + dim + ") - Average Fitness: "
+                        + statistics.getMean() + ", Median: " + statistics.getMedian()
+                        + ", Std: " + statistics.getStandardDeviation() + ", Min: " + statistics.getMin());
+                if (!Double.isNaN(runner.getTargetPrecision())) {
+                    System.out.println("Problem: " + problemName + " (dim=" + dim + ") - Target reached: "
+                            + ExperimentRunner.successes(fesToTarget) + "/" + numberOfRuns + ", ERT: "
+                            + ExperimentRunner.expectedRunningTime(fesToTarget, Problems.defaultMaxFes(dim)));
+                }
+
+                // append results to the store (if enabled), flushed per cell so finished cells survive a crash
+                if (store != null) {
+                    try {
+                        store.append("IGWO", problemName, dim, runner.getBaseSeed(), runs);
+                        store.flush();
+                        System.out.println("Results appended to: " + STORE_FILE);
+                    } catch (IOException e) {
+                        System.err.println("Failed to append to: " + STORE_FILE);
+                        e.printStackTrace();
+                    }
+                }
+            });
+        } catch (IOException e) {
+            System.err.println("Failed to open result store: " + STORE_FILE);
+            e.printStackTrace();
+        }
+    }
+
+    // Writes <algorithm>-<surname>_<problem>D<dim>.txt next to the store from the last run of every cell
+    private static void exportResults() {
+        try (ResultStore store = new ResultStore(STORE_FILE)) {
+            int files = store.exportText(STORE_FILE.getParent(), SURNAME);
+            System.out.println("Exported " + files + " result files from: " + STORE_FILE);
+        } catch (IOException e) {
+            System.err.println("Failed to export result store: " + STORE_FILE);
+            e.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package ec.runner;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import ec.core.Solution;
+
+class ResultStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void readsBackWhatWasAppended() throws IOException {
+        Path file = directory.resolve("results.ecrs");
+        try (ResultStore store = new ResultStore(file)) {
+            store.append("DE", "Sphere", 10, 7L, runs(3.5, 1e-12, null, 42.0));
+            store.append("GWO", "Sphere", 10, 7L, 0, 8.0);
+
+            assertArrayEquals(new double[] { 3.5, 1e-12, 42.0 }, store.getFitness("DE", "Sphere", 10, 7L), 0.0);
+            assertArrayEquals(new double[] { 8.0 }, store.getFitness("GWO", "Sphere", 10, 7L), 0.0);
+            assertEquals(0, store.getFitness("DE", "Sphere", 20, 7L).length);
+            assertEquals(0, store.getFitness("DE", "Ackley", 10, 7L).length);
+            assertEquals(4, store.getRecordCount());
+        }
+    }
+
+    @Test
+    void reopenRebuildsTheIndex() throws IOException {
+        Path file = directory.resolve("results.ecrs");
+        try (ResultStore store = new ResultStore(file)) {
+            store.append("DE", "Rastrigin", 30, 1L, runs(5.0, 4.0, 3.0));
+            store.append("DE", "Rastrigin", 30, 2L, runs(9.0));
+        }
+        try (ResultStore store = new ResultStore(file)) {
+            // a run stored again replaces the earlier value
+            store.append("DE", "Rastrigin", 30, 1L, 1, 0.5);
+
+            assertArrayEquals(new double[] { 5.0, 0.5, 3.0 }, store.getFitness("DE", "Rastrigin", 30, 1L), 0.0);
+            assertArrayEquals(new double[] { 9.0 }, store.getFitness("DE", "Rastrigin", 30, 2L), 0.0);
+            assertEquals(5, store.getRecordCount());
+        }
+    }
+
+    @Test
+    void dropsARecordCutOffByACrash() throws IOException {
+        Path file = directory.resolve("results.ecrs");
+        try (ResultStore store = new ResultStore(file)) {
+            store.append("DE", "Sphere", 2, 0L, runs(1.0, 2.0));
+        }
+        long complete = Files.size(file);
+        Files.write(file, new byte[] { 2, 0, 0, 0, 0, 0 }, StandardOpenOption.APPEND);
+
+        try (ResultStore store = new ResultStore(file)) {
+            assertEquals(2, store.getRecordCount());
+            assertEquals(complete, Files.size(file));
+            store.append("DE", "Sphere", 2, 0L, 2, 3.0);
+            assertArrayEquals(new double[] { 1.0, 2.0, 3.0 }, store.getFitness("DE", "Sphere", 2, 0L), 0.0);
+        }
+    }
+
+    @Test
+    void exportsOneTextFilePerCell() throws IOException {
+        Path exported = directory.resolve("export");
+        try (ResultStore store = new ResultStore(directory.resolve("results.ecrs"))) {
+            store.append("DE", "Sphere", 10, 1L, runs(99.0));
+            // the seed appended last is exported
+            store.append("DE", "Sphere", 10, 2L, runs(1.5e-20, 0.125, 1234567.0));
+            store.append("GWO", "Schwefel26", 2, 1L, runs(7.0));
+
+            assertEquals(2, store.exportText(exported, "Novak"));
+        }
+
+        assertEquals(Arrays.asList("0.000000000000000000015", "0.125", "1234567.0"),
+                lines(exported.resolve("DE-Novak_SphereD10.txt")));
+        assertEquals(Arrays.asList(BigDecimal.valueOf(7.0).toPlainString()),
+                lines(exported.resolve("GWO-Novak_Schwefel26D2.txt")));
+    }
+
+    @Test
+    void rejectsAFileThatIsNotAStore() throws IOException {
+        Path file = directory.resolve("other.txt");
+        Files.write(file, "not a result store".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(IOException.class, () -> new ResultStore(file));
+    }
+
+    private static Solution[] runs(Double... fitness) {
+        Solution[] runs = new Solution[fitness.length];
+        for (int i = 0; i < fitness.length; i++) {
+            runs[i] = fitness[i] == null ? null : new Solution(new double[] { i }, fitness[i]);
+        }
+        return runs;
+    }
+
+    private static List<String> lines(Path file) throws IOException {
+        return Files.readAllLines(file, StandardCharsets.UTF_8);
+    }
+}
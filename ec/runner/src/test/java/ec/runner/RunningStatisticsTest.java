@@ -0,0 +1,157 @@
+package ec.runner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class RunningStatisticsTest {
+
+    private static final double[] QUANTILES = { 0.001, 0.01, 0.1, 0.25, 0.5, 0.75, 0.9, 0.99, 0.999 };
+
+    @Test
+    void momentsOfASmallSample() {
+        RunningStatistics statistics = new RunningStatistics();
+        for (double value : new double[] { 4, 8, 15, 16, 23, 42 }) {
+            statistics.add(value);
+        }
+
+        assertEquals(6, statistics.getCount());
+        assertEquals(4.0, statistics.getMin(), 0.0);
+        assertEquals(42.0, statistics.getMax(), 0.0);
+        assertEquals(18.0, statistics.getMean(), 1e-12);
+        assertEquals(910.0 / 6, statistics.getVariance(), 1e-9);
+        assertEquals(182.0, statistics.getSampleVariance(), 1e-9);
+        assertEquals(15.5, statistics.getMedian(), 0.0);
+    }
+
+    // Below 10 * compression values the quantiles are exact (Hazen definition)
+    @Test
+    void quantilesOfFewValuesAreExact() {
+        RunningStatistics statistics = new RunningStatistics();
+        Random random = new Random(1);
+        double[] values = new double[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextGaussian();
+            statistics.add(values[i]);
+        }
+        Arrays.sort(values);
+
+        for (double q : QUANTILES) {
+            assertEquals(hazen(values, q), statistics.getQuantile(q), 1e-12, "q = " + q);
+        }
+        assertEquals(values[0], statistics.getQuantile(0.0), 0.0);
+        assertEquals(values[values.length - 1], statistics.getQuantile(1.0), 0.0);
+    }
+
+    // t-digest estimates: the rank of the estimate is within half an entry of q, closest in the tails
+    @Test
+    void quantileEstimatesAreWithinTheRankErrorBound() {
+        RunningStatistics statistics = new RunningStatistics();
+        Random random = new Random(2);
+        double[] values = new double[200_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Math.exp(random.nextGaussian());
+            statistics.add(values[i]);
+        }
+        Arrays.sort(values);
+
+        for (double q : QUANTILES) {
+            double error = Math.abs(rank(values, statistics.getQuantile(q)) - q);
+            assertTrue(error <= rankErrorBound(q), "q = " + q + ", rank error " + error);
+        }
+    }
+
+    @Test
+    void mergeMatchesASingleStream() {
+        RunningStatistics single = new RunningStatistics();
+        RunningStatistics[] parts = new RunningStatistics[4];
+        for (int i = 0; i < parts.length; i++) {
+            parts[i] = new RunningStatistics();
+        }
+        Random random = new Random(3);
+        double[] values = new double[100_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 100 * random.nextDouble() - 50;
+            single.add(values[i]);
+            parts[i % parts.length].add(values[i]);
+        }
+        Arrays.sort(values);
+
+        RunningStatistics merged = new RunningStatistics();
+        for (RunningStatistics part : parts) {
+            merged.merge(part);
+        }
+
+        assertEquals(single.getCount(), merged.getCount());
+        assertEquals(single.getMin(), merged.getMin(), 0.0);
+        assertEquals(single.getMax(), merged.getMax(), 0.0);
+        assertEquals(single.getMean(), merged.getMean(), 1e-9);
+        assertEquals(single.getVariance(), merged.getVariance(), 1e-6);
+        for (double q : QUANTILES) {
+            double error = Math.abs(rank(values, merged.getQuantile(q)) - q);
+            assertTrue(error <= rankErrorBound(q), "q = " + q + ", rank error " + error);
+        }
+    }
+
+    @Test
+    void mergeOfExactDigestsIsExact() {
+        RunningStatistics single = new RunningStatistics();
+        RunningStatistics first = new RunningStatistics();
+        RunningStatistics second = new RunningStatistics();
+        for (int i = 0; i < 300; i++) {
+            single.add(i);
+            (i % 3 == 0 ? first : second).add(i);
+        }
+
+        first.merge(second);
+
+        assertEquals(300, first.getCount());
+        assertEquals(200, second.getCount());
+        for (double q : QUANTILES) {
+            assertEquals(single.getQuantile(q), first.getQuantile(q), 1e-9, "q = " + q);
+        }
+    }
+
+    @Test
+    void rejectsInvalidInput() {
+        RunningStatistics statistics = new RunningStatistics();
+        assertThrows(IllegalArgumentException.class, () -> statistics.add(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> statistics.merge(statistics));
+        assertThrows(IllegalArgumentException.class, () -> statistics.getQuantile(1.5));
+        assertThrows(IllegalArgumentException.class, () -> new RunningStatistics(5));
+        assertTrue(Double.isNaN(statistics.getQuantile(0.5)));
+    }
+
+    // An entry spans one unit of k(q) = compression / (2 pi) * asin(2q - 1), that is
+    // 2 pi / compression * sqrt(q (1 - q)) of q; the estimate is off by at most half of it
+    private static double rankErrorBound(double q) {
+        return Math.PI / RunningStatistics.DEFAULT_COMPRESSION * Math.sqrt(q * (1 - q)) + 1e-4;
+    }
+
+    // Quantile q of sorted values, each value placed at the middle of its rank
+    private static double hazen(double[] sorted, double q) {
+        double position = q * sorted.length - 0.5;
+        if (position <= 0) {
+            return sorted[0];
+        }
+        if (position >= sorted.length - 1) {
+            return sorted[sorted.length - 1];
+        }
+        int i = (int) position;
+        return sorted[i] + (position - i) * (sorted[i + 1] - sorted[i]);
+    }
+
+    // Fraction of sorted values below value
+    private static double rank(double[] sorted, double value) {
+        int i = Arrays.binarySearch(sorted, value);
+        if (i < 0) {
+            i = -i - 1;
+        }
+        return (double) i / sorted.length;
+    }
+}
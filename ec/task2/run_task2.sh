@@ -1,7 +1,8 @@
 #!/bin/bash
 
-# Compile Java files
-javac -d bin src/*.java
+# Compile the core, algorithms and runner modules; their resources (the RegistryProvider
+# service files) are added to the class path as they are
+javac -d bin $(find ../core/src/main/java ../algorithms/src/main/java ../runner/src/main/java -name '*.java')
 
 # Check if compilation was successful
 if [ $? -eq 0 ]; then
@@ -25,7 +26,7 @@ if [ $? -eq 0 ]; then
     done
 
     # Run the MainTest class with the relevant flags
-    java -cp bin MainTest $DEBUG_FLAG $RUNALL_FLAG $RUNONE_FLAG
+    java -cp bin:../core/src/main/resources:../algorithms/src/main/resources ec.runner.task2.MainTest $DEBUG_FLAG $RUNALL_FLAG $RUNONE_FLAG
 else
     echo "Compilation failed."
 fi
@@ -1,3 +0,0 @@
-public class Config {
-    public static boolean isDebug = false;
-}
\ No newline at end of file
@@ -1,7 +1,8 @@
 #!/bin/bash
 
-# Compile Java files
-javac -d bin src/*.java
+# Compile the core, algorithms and runner modules; their resources (the RegistryProvider
+# service files) are added to the class path as they are
+javac -d bin $(find ../core/src/main/java ../algorithms/src/main/java ../runner/src/main/java -name '*.java')
 
 # Check if compilation was successful
 if [ $? -eq 0 ]; then
@@ -10,16 +11,22 @@ if [ $? -eq 0 ]; then
     RUNALL_FLAG=""
     RUNONE_FLAG=""
     COMPARE_FLAG=""
+    EXPORT_FLAG=""
+    RUNNER_ARGS=""
 
     # Loop through each argument to check for "debug" and "test"
     for arg in "$@"; do
         if [ "$arg" == "write" ]; then
             DEBUG_FLAG="writeToFile"
+        elif [ "$arg" == "export" ]; then
+            EXPORT_FLAG="export"
+        elif [[ "$arg" == threads=* || "$arg" == seed=* || "$arg" == dims=* || "$arg" == runs=* || "$arg" == target=* ]]; then
+            RUNNER_ARGS="$RUNNER_ARGS $arg"
         fi
     done
 
     # Run the MainTest class with the relevant flags
-    java -cp bin MainTest $DEBUG_FLAG $RUNALL_FLAG $RUNONE_FLAG
+    java -cp bin:../core/src/main/resources:../algorithms/src/main/resources ec.runner.task3.MainTest $DEBUG_FLAG $RUNALL_FLAG $RUNONE_FLAG $EXPORT_FLAG $RUNNER_ARGS
 else
     echo "Compilation failed."
 fi
@@ -1,5 +0,0 @@
-public abstract class Algorithm {
-
-    public abstract Solution execute(Problem p, boolean isDebug);
-
-}
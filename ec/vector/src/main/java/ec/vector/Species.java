@@ -0,0 +1,13 @@
+package ec.vector;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorSpecies;
+
+// Shared species, kept out of VectorProblems so that class loads without the incubator module
+final class Species {
+
+    static final VectorSpecies<Double> DOUBLE = DoubleVector.SPECIES_PREFERRED;
+
+    private Species() {
+    }
+}
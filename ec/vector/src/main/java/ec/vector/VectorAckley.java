@@ -0,0 +1,46 @@
+package ec.vector;
+
+import ec.problems.Ackley;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+public class VectorAckley extends Ackley {
+
+    private static final VectorSpecies<Double> S = Species.DOUBLE;
+    private static final double A = 20.0;
+    private static final double B = 0.2;
+    private static final double C = 2 * Math.PI;
+
+    public VectorAckley(int numberOfDimension, int maxFes) {
+        super(numberOfDimension, maxFes);
+    }
+
+    @Override
+    protected double evaluate(double[] x, int offset) {
+        int n = numberOfDimension;
+        int upper = S.loopBound(n);
+        DoubleVector squares = DoubleVector.zero(S);
+        DoubleVector cosines = DoubleVector.zero(S);
+
+        int i = 0;
+        for (; i < upper; i += S.length()) {
+            DoubleVector v = DoubleVector.fromArray(S, x, offset + i);
+            squares = v.fma(v, squares);
+            cosines = cosines.add(v.mul(C).lanewise(VectorOperators.COS));
+        }
+
+        double sum1 = squares.reduceLanes(VectorOperators.ADD);
+        double sum2 = cosines.reduceLanes(VectorOperators.ADD);
+        for (; i < n; i++) {
+            double xi = x[offset + i];
+            sum1 += xi * xi;
+            sum2 += Math.cos(C * xi);
+        }
+
+        double term1 = -A * Math.exp(-B * Math.sqrt(sum1 / n));
+        double term2 = -Math.exp(sum2 / n);
+
+        return term1 + term2 + A + Math.exp(1);
+    }
+}
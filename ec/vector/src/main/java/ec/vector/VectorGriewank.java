@@ -0,0 +1,41 @@
+package ec.vector;
+
+import ec.problems.Griewank;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+public class VectorGriewank extends Griewank {
+
+    private static final VectorSpecies<Double> S = Species.DOUBLE;
+
+    public VectorGriewank(int numberOfDimension, int maxFes) {
+        super(numberOfDimension, maxFes);
+    }
+
+    @Override
+    protected double evaluate(double[] x, int offset) {
+        int n = numberOfDimension;
+        int upper = S.loopBound(n);
+        DoubleVector squares = DoubleVector.zero(S);
+        DoubleVector products = DoubleVector.broadcast(S, 1.0);
+
+        int i = 0;
+        for (; i < upper; i += S.length()) {
+            DoubleVector v = DoubleVector.fromArray(S, x, offset + i);
+            DoubleVector divisor = DoubleVector.fromArray(S, sqrtIndex, i);
+            squares = v.fma(v, squares);
+            products = products.mul(v.div(divisor).lanewise(VectorOperators.COS));
+        }
+
+        double sum = squares.reduceLanes(VectorOperators.ADD) / 4000.0;
+        double product = products.reduceLanes(VectorOperators.MUL);
+        for (; i < n; i++) {
+            double xi = x[offset + i];
+            sum += (xi * xi) / 4000.0;
+            product *= Math.cos(xi / sqrtIndex[i]);
+        }
+
+        return sum - product + 1.0;
+    }
+}
@@ -0,0 +1,52 @@
+package ec.vector;
+
+import ec.core.Problem;
+
+// Creates the Vector API versions of the separable benchmark functions. Needs JDK 17+ with
+// --add-modules jdk.incubator.vector; without it, or for a function without a kernel, create
+// returns null and the caller falls back to the scalar classes.
+public final class VectorProblems {
+
+    private static final boolean AVAILABLE = checkAvailable();
+
+    private VectorProblems() {
+    }
+
+    // True if the incubator module is resolved and the CPU has at least two double lanes
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    public static Problem create(String problemName, int dimensions, int maxFes) {
+        if (!AVAILABLE) {
+            return null;
+        }
+        switch (problemName) {
+            case "Ackley":
+                return new VectorAckley(dimensions, maxFes);
+            case "Griewank":
+                return new VectorGriewank(dimensions, maxFes);
+            case "Rastrigin":
+                return new VectorRastrigin(dimensions, maxFes);
+            case "Schwefel":
+                return new VectorSchwefel(dimensions, maxFes);
+            case "Sphere":
+                return new VectorSphere(dimensions, maxFes);
+            case "StyblinskiTang":
+                return new VectorStyblinskiTang(dimensions, maxFes);
+            default:
+                return null;
+        }
+    }
+
+    private static boolean checkAvailable() {
+        if (!ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            return false;
+        }
+        try {
+            return Species.DOUBLE.length() >= 2;
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+}
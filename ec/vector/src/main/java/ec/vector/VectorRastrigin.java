@@ -0,0 +1,36 @@
+package ec.vector;
+
+import ec.problems.Rastrigin;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+public class VectorRastrigin extends Rastrigin {
+
+    private static final VectorSpecies<Double> S = Species.DOUBLE;
+
+    public VectorRastrigin(int numberOfDimension, int maxFes) {
+        super(numberOfDimension, maxFes);
+    }
+
+    @Override
+    protected double evaluate(double[] x, int offset) {
+        int n = numberOfDimension;
+        int upper = S.loopBound(n);
+        DoubleVector sum = DoubleVector.zero(S);
+
+        int i = 0;
+        for (; i < upper; i += S.length()) {
+            DoubleVector v = DoubleVector.fromArray(S, x, offset + i);
+            DoubleVector cos = v.mul(2 * Math.PI).lanewise(VectorOperators.COS);
+            sum = sum.add(v.fma(v, cos.mul(-10)));
+        }
+
+        double fitness = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < n; i++) {
+            double xi = x[offset + i];
+            fitness += xi * xi - 10 * Math.cos(2 * Math.PI * xi);
+        }
+        return 10 * n + fitness;
+    }
+}
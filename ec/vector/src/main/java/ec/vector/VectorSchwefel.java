@@ -0,0 +1,36 @@
+package ec.vector;
+
+import ec.problems.Schwefel;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+public class VectorSchwefel extends Schwefel {
+
+    private static final VectorSpecies<Double> S = Species.DOUBLE;
+
+    public VectorSchwefel(int numberOfDimensions, int maxFes) {
+        super(numberOfDimensions, maxFes);
+    }
+
+    @Override
+    protected double evaluate(double[] x, int offset) {
+        int n = numberOfDimension;
+        int upper = S.loopBound(n);
+        DoubleVector sum = DoubleVector.zero(S);
+
+        int i = 0;
+        for (; i < upper; i += S.length()) {
+            DoubleVector v = DoubleVector.fromArray(S, x, offset + i);
+            DoubleVector sin = v.abs().sqrt().lanewise(VectorOperators.SIN);
+            sum = v.fma(sin, sum);
+        }
+
+        double fitness = -sum.reduceLanes(VectorOperators.ADD);
+        for (; i < n; i++) {
+            double xi = x[offset + i];
+            fitness -= xi * Math.sin(Math.sqrt(Math.abs(xi)));
+        }
+        return fitness;
+    }
+}
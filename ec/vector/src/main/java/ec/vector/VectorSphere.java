@@ -0,0 +1,35 @@
+package ec.vector;
+
+import ec.problems.Sphere;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+public class VectorSphere extends Sphere {
+
+    private static final VectorSpecies<Double> S = Species.DOUBLE;
+
+    public VectorSphere(int numberOfDimension, int maxFes) {
+        super(numberOfDimension, maxFes);
+    }
+
+    @Override
+    protected double evaluate(double[] x, int offset) {
+        int n = numberOfDimension;
+        int upper = S.loopBound(n);
+        DoubleVector sum = DoubleVector.zero(S);
+
+        int i = 0;
+        for (; i < upper; i += S.length()) {
+            DoubleVector v = DoubleVector.fromArray(S, x, offset + i);
+            sum = v.fma(v, sum);
+        }
+
+        double fitness = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < n; i++) {
+            double xi = x[offset + i];
+            fitness += xi * xi;
+        }
+        return fitness;
+    }
+}
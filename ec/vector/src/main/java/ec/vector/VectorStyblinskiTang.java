@@ -0,0 +1,37 @@
+package ec.vector;
+
+import ec.problems.StyblinskiTang;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+public class VectorStyblinskiTang extends StyblinskiTang {
+
+    private static final VectorSpecies<Double> S = Species.DOUBLE;
+
+    public VectorStyblinskiTang(int numberOfDimension, int maxFes) {
+        super(numberOfDimension, maxFes);
+    }
+
+    @Override
+    protected double evaluate(double[] x, int offset) {
+        int n = numberOfDimension;
+        int upper = S.loopBound(n);
+        DoubleVector sum = DoubleVector.zero(S);
+
+        int i = 0;
+        for (; i < upper; i += S.length()) {
+            // x^4 - 16x^2 + 5x = x^2 (x^2 - 16) + 5x
+            DoubleVector v = DoubleVector.fromArray(S, x, offset + i);
+            DoubleVector square = v.mul(v);
+            sum = sum.add(square.fma(square.sub(16), v.mul(5)));
+        }
+
+        double fitness = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < n; i++) {
+            double xi = x[offset + i];
+            fitness += Math.pow(xi, 4) - 16 * Math.pow(xi, 2) + 5 * xi;
+        }
+        return fitness / 2.0;
+    }
+}